@@ -2,8 +2,10 @@ package com.example.fitness_tracker_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// The reactive read API manages its own R2DBC pool (see ReactiveReadConfig); Boot's would replace the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class FitnessTrackerBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,61 @@
+package com.example.fitness_tracker_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Database instrumentation next to the actuator's Hikari and Hibernate metrics:
+ * per-endpoint JDBC statement counts and time, and the slow-query log
+ */
+@Configuration
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    private final EndpointQueryMetricsInterceptor endpointQueryMetricsInterceptor;
+
+    public QueryMetricsConfig(MeterRegistry meterRegistry) {
+        this.endpointQueryMetricsInterceptor = new EndpointQueryMetricsInterceptor(meterRegistry);
+    }
+
+    /**
+     * Wraps the application DataSource (Boot's pool, or the replica routing proxy) so every
+     * execution passes through QueryMetricsListener; pools underneath keep their own metrics
+     */
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(Environment environment) {
+        Duration slowQueryThreshold = environment.getProperty(
+                "app.db.slow-query-threshold", Duration.class, Duration.ofMillis(200));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryMetricsListener(slowQueryThreshold))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointQueryMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Carries the request's stats onto the executor thread running async handlers
+        configurer.registerCallableInterceptors(endpointQueryMetricsInterceptor);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.fitness_tracker_backend.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sees every JDBC execution on the application DataSource, including JdbcTemplate batches
+ * Adds it to the current request's stats and logs statements slower than the threshold
+ * together with the service method that issued them
+ */
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsListener.class);
+    private static final String SERVICE_PACKAGE = "com.example.fitness_tracker_backend.service.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final long slowQueryThresholdMillis;
+
+    public QueryMetricsListener(Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // One execution per round trip; a JDBC batch counts once
+        RequestQueryStats.record(TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()));
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            log.warn("Slow query ({} ms{}) from {}: {}", execInfo.getElapsedTime(),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                    callingServiceMethod(), sql);
+        }
+    }
+
+    // Innermost frame in the service layer, skipping Spring's proxy classes
+    private String callingServiceMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(SERVICE_PACKAGE.length()) + "." + frame.getMethodName())
+                .orElse("outside the service layer"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.fitness_tracker_backend.config;
+
+import com.example.fitness_tracker_backend.controller.ReactiveReadHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactive read API for workout history and goal listings
+ * Runs on its own Reactor Netty server (app.reactive.port) next to Tomcat, so slow clients hold
+ * event-loop capacity instead of a request thread each, and reads through a dedicated R2DBC pool.
+ * The pool is deliberately not a ConnectionFactory bean: one would make Spring Boot back off
+ * the JDBC DataSource that JPA and Flyway use.
+ */
+@Configuration
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveReadConfig(@Value("${app.reactive.r2dbc.url}") String url,
+                              @Value("${spring.datasource.username}") String username,
+                              @Value("${spring.datasource.password}") String password,
+                              @Value("${app.reactive.r2dbc.max-pool-size:10}") int maxPoolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveReadServer(ReactiveReadHandler handler,
+                                               ObjectMapper objectMapper,
+                                               CorsConfigurationSource corsConfigurationSource,
+                                               @Value("${app.reactive.port:8082}") int port) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/reactive/workouts/user/{userId}", handler::workoutsByUser)
+                .GET("/api/reactive/goals/user/{userId}", handler::goalsByUser)
+                .build();
+
+        // Same origins as the servlet API
+        org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource cors =
+                new org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource();
+        if (corsConfigurationSource instanceof UrlBasedCorsConfigurationSource servletCors) {
+            servletCors.getCorsConfigurations().forEach(cors::registerCorsConfiguration);
+        }
+
+        // Boot's ObjectMapper so dates and nulls serialize exactly as on the servlet endpoints
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .webFilter(new CorsWebFilter(cors))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+        return HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.fitness_tracker_backend.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps read-only transactions that may be served by a replica from populating the
+ * second-level and query caches. A lagging replica still returns a row the primary has
+ * since changed and evicted; cached, that stale row would be served to every client.
+ * EntityManager.find still reads cached entities but stores none (CacheStoreMode.BYPASS);
+ * queries and lazy loads bypass the caches entirely (CacheMode.IGNORE), since Hibernate
+ * stores a query result after a cache miss even in CacheMode.GET. Requests pinned to the
+ * primary and read-write transactions cache as usual
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReplicaRoutingDataSource.isPrimaryPinned()) {
+            return transactionData;
+        }
+
+        // EntityManager.find consults the JPA property rather than the session's cache mode
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        Object previousStoreMode = session.getProperties().get(SpecHints.HINT_SPEC_CACHE_STORE_MODE);
+        session.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        session.setCacheMode(CacheMode.IGNORE);
+        return new ReplicaReadTransactionData(transactionData, session, previousCacheMode, previousStoreMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransactionData replicaRead) {
+            // The session may outlive the transaction (open-in-view), so hand back its own mode
+            Session session = replicaRead.session();
+            if (session.isOpen()) {
+                session.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE,
+                        replicaRead.previousStoreMode() != null ? replicaRead.previousStoreMode() : CacheStoreMode.USE);
+                session.setCacheMode(replicaRead.previousCacheMode());
+            }
+            super.cleanupTransaction(replicaRead.transactionData());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaReadTransactionData(Object transactionData, Session session,
+                                              CacheMode previousCacheMode, Object previousStoreMode) {}
+}
@@ -0,0 +1,153 @@
+package com.example.fitness_tracker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource for read-only transactions
+ * Hands out connections round-robin from the replicas whose replication lag is within
+ * the tolerance, and falls back to the primary when none is, or when the current
+ * request is pinned to the primary to read its own recent writes
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // Seconds since the last replayed transaction; 0 on a caught-up replica or a stand-alone instance
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    // Replaced wholesale by the lag monitor so readers always see a complete snapshot
+    private volatile double[] lagSeconds;
+    private final double maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    Duration maxLag, Duration lagCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        // Unknown lag until the first check: route to the primary
+        double[] unknown = new double[replicas.size()];
+        Arrays.fill(unknown, Double.POSITIVE_INFINITY);
+        this.lagSeconds = unknown;
+        this.lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagMonitor.scheduleWithFixedDelay(this::checkLag, 0, lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Routes read-only connections of the current thread to the primary until cleared
+     * @param pinned true to pin, false to clear
+     */
+    public static void setPrimaryPinned(boolean pinned) {
+        if (pinned) {
+            PRIMARY_PINNED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    /**
+     * @return true if read-only connections of the current thread go to the primary
+     */
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * Wraps a task so it runs with the submitting thread's pin, for work handed to another
+     * thread such as a streaming response body
+     * @param task Task submitted from a request thread
+     * @return Task that pins (or not) like the submitter and clears the pin when done
+     */
+    public static Runnable withCurrentPin(Runnable task) {
+        boolean pinned = isPrimaryPinned();
+        return () -> {
+            setPrimaryPinned(pinned);
+            try {
+                task.run();
+            } finally {
+                setPrimaryPinned(false);
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    private DataSource determineTarget() {
+        if (isPrimaryPinned()) {
+            return primary;
+        }
+
+        double[] lag = lagSeconds;
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            if (lag[candidate] <= maxLagSeconds) {
+                return replicas.get(candidate);
+            }
+        }
+        return primary;
+    }
+
+    private void checkLag() {
+        double[] lag = new double[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(i);
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    lag[i] = resultSet.getDouble(1);
+                }
+            } catch (SQLException | RuntimeException e) {
+                lag[i] = Double.POSITIVE_INFINITY;
+                log.warn("Replica {} unavailable for reads: {}", replica.getPoolName(), e.getMessage());
+            }
+        }
+        lagSeconds = lag;
+    }
+
+    @Override
+    public void destroy() {
+        lagMonitor.shutdownNow();
+        replicas.forEach(HikariDataSource::close);
+    }
+}
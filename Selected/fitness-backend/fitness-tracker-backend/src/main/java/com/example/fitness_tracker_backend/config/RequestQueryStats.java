@@ -0,0 +1,42 @@
+package com.example.fitness_tracker_backend.config;
+
+/**
+ * JDBC statements executed and time spent in them while serving one request
+ * Bound to whichever thread is working on the request: the request thread, and for async
+ * handlers such as the NDJSON export the executor thread running the handler's work.
+ * Attached and detached by EndpointQueryMetricsInterceptor, fed by QueryMetricsListener
+ */
+final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    // Only one thread works on a request at a time, and the async hand-offs publish the counts
+    private long statements;
+    private long nanos;
+
+    RequestQueryStats() {}
+
+    static void attach(RequestQueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    long getStatements() {
+        return statements;
+    }
+
+    long getNanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.fitness_tracker_backend.controller;
+
+import com.example.fitness_tracker_backend.dto.UserChangeStampDTO;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * Converts between entity versions and HTTP entity tags
+ * The ETag of a single resource is its quoted version, e.g. "3"; a user profile
+ * also carries the user's change counter, e.g. "3-17", and per-user listings
+ * carry the change counter alone, plus the day when their range ends today
+ */
+final class EntityTags {
+
+    // Per-user data: cacheable by the client only, and always revalidated
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private EntityTags() {}
+
+    /**
+     * @param version Entity version
+     * @return Quoted entity tag
+     */
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @param stamp Freshness stamp of the user
+     * @return Entity tag of the user profile with its workouts and goals
+     */
+    static String ofProfile(UserChangeStampDTO stamp) {
+        return "\"" + stamp.getVersion() + "-" + stamp.getChangeCounter() + "\"";
+    }
+
+    /**
+     * @param stamp Freshness stamp of the user
+     * @return Entity tag of a listing of the user's workouts or goals
+     */
+    static String ofActivity(UserChangeStampDTO stamp) {
+        return "\"" + stamp.getChangeCounter() + "\"";
+    }
+
+    /**
+     * @param stamp Freshness stamp of the user
+     * @param day Day the content was computed for, e.g. a range defaulting to end today
+     * @return Entity tag of activity-derived content that also moves with the calendar
+     */
+    static String ofActivity(UserChangeStampDTO stamp, LocalDate day) {
+        return "\"" + stamp.getChangeCounter() + "-" + day + "\"";
+    }
+
+    /**
+     * Weak comparison of an If-None-Match header against the current tag
+     * @param ifNoneMatch Header value, may be null
+     * @param eTag Current entity tag
+     * @return true when the client's copy is still current
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param eTag Current entity tag
+     * @return 304 response carrying the tag
+     */
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(eTag).build();
+    }
+
+    /**
+     * @param eTag Current entity tag, or null when there is none
+     * @param body Response body
+     * @return 200 response carrying the tag when there is one
+     */
+    static <T> ResponseEntity<T> ok(String eTag, T body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(body);
+    }
+
+    /**
+     * Reads the version a client expects from an If-Match header
+     * If-Match uses strong comparison (RFC 9110 section 13.1.1), so a weak tag never matches
+     * @param ifMatch Header value, may be null
+     * @return Expected version, or null when the header is absent or "*"
+     * @throws IllegalArgumentException if the header does not hold a single version tag
+     * @throws OptimisticLockingFailureException if the tag is weak
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new OptimisticLockingFailureException("Weak entity tags never match If-Match");
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        // Profile tags are "<version>-<changeCounter>"; only the version guards the user row
+        int separator = value.indexOf('-');
+        if (separator > 0) {
+            value = value.substring(0, separator);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException invalidTagException) {
+            throw new IllegalArgumentException("Invalid If-Match header", invalidTagException);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.fitness_tracker_backend.controller;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
 import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressResultDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressUpdateDTO;
+import com.example.fitness_tracker_backend.exception.ResourceNotFoundException;
 import com.example.fitness_tracker_backend.service.GoalService;
+import com.example.fitness_tracker_backend.service.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,17 +27,25 @@ import java.util.List;
 public class GoalController {
 
     private final GoalService goalService;
+    private final UserService userService;
 
-    public GoalController(GoalService goalService) {
+    public GoalController(GoalService goalService, UserService userService) {
         this.goalService = goalService;
+        this.userService = userService;
     }
 
     /**
-     * Get all goals
+     * Get all goals, one keyset page at a time
      */
     @GetMapping
-    public List<GoalDTO> getAllGoals() {
-        return goalService.getAllGoals();
+    public ResponseEntity<CursorPageDTO<GoalDTO>> getAllGoals(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(goalService.getAllGoals(cursor, limit));
+        } catch (IllegalArgumentException invalidCursorException) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -39,16 +54,28 @@ public class GoalController {
     @GetMapping("/{id}")
     public ResponseEntity<GoalDTO> getGoalById(@PathVariable Long id) {
         return goalService.getGoalById(id)
-                .map(ResponseEntity::ok)
+                .map(goal -> ResponseEntity.ok().eTag(EntityTags.of(goal.getVersion())).body(goal))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Get goals by user ID
+     * Get goals by user ID, one keyset page at a time
      */
     @GetMapping("/user/{userId}")
-    public List<GoalDTO> getGoalsByUserId(@PathVariable Long userId) {
-        return goalService.getGoalsByUserId(userId);
+    public ResponseEntity<CursorPageDTO<GoalDTO>> getGoalsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            String eTag = userService.getChangeStamp(userId).map(EntityTags::ofActivity).orElse(null);
+            if (EntityTags.matches(ifNoneMatch, eTag)) {
+                return EntityTags.notModified(eTag);
+            }
+            return EntityTags.ok(eTag, goalService.getGoalsByUserId(userId, cursor, limit));
+        } catch (IllegalArgumentException invalidCursorException) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -116,10 +143,21 @@ public class GoalController {
      * Update goal
      */
     @PutMapping("/{id}")
-    public ResponseEntity<GoalDTO> updateGoal(@PathVariable Long id, @RequestBody GoalDTO goalDTO) {
+    public ResponseEntity<GoalDTO> updateGoal(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody GoalDTO goalDTO) {
         try {
+            Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+            if (expectedVersion != null) {
+                goalDTO.setVersion(expectedVersion);
+            }
             GoalDTO updatedGoal = goalService.updateGoal(id, goalDTO);
-            return ResponseEntity.ok(updatedGoal);
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedGoal.getVersion())).body(updatedGoal);
+        } catch (IllegalArgumentException invalidIfMatchException) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException concurrentUpdateException) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (IllegalStateException duplicateGoalException) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
@@ -147,12 +185,28 @@ public class GoalController {
     public ResponseEntity<GoalDTO> updateGoalProgress(
             @PathVariable Long id,
             @RequestBody JsonNode requestBody) {
+        JsonNode currentValue = requestBody.get("currentValue");
+        if (currentValue == null || !currentValue.isNumber()) {
+            return ResponseEntity.badRequest().build();
+        }
+
         try {
-            Double currentValue = requestBody.get("currentValue").asDouble();
-            GoalDTO updatedGoal = goalService.updateGoalProgress(id, currentValue);
+            GoalDTO updatedGoal = goalService.updateGoalProgress(id, currentValue.asDouble());
             return ResponseEntity.ok(updatedGoal);
-        } catch (RuntimeException e) {
+        } catch (ResourceNotFoundException goalNotFoundException) {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Update progress of many goals at once
+     */
+    @PatchMapping("/progress")
+    public ResponseEntity<List<GoalProgressResultDTO>> updateGoalProgressBatch(@RequestBody List<GoalProgressUpdateDTO> updates) {
+        try {
+            return ResponseEntity.ok(goalService.updateGoalProgressBatch(updates));
+        } catch (IllegalArgumentException invalidBatchException) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
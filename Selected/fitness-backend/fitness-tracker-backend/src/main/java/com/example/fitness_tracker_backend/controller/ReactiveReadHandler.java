@@ -0,0 +1,59 @@
+package com.example.fitness_tracker_backend.controller;
+
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.service.ReactiveReadService;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional WebFlux handlers for the reactive read API
+ * Results stream as newline-delimited JSON, one DTO per line, at the pace the client reads
+ */
+@Component
+public class ReactiveReadHandler {
+
+    private final ReactiveReadService reactiveReadService;
+
+    public ReactiveReadHandler(ReactiveReadService reactiveReadService) {
+        this.reactiveReadService = reactiveReadService;
+    }
+
+    /**
+     * Stream a user's workout history with exercises
+     */
+    public Mono<ServerResponse> workoutsByUser(ServerRequest request) {
+        Long userId = userId(request);
+        if (userId == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactiveReadService.streamWorkoutsByUserId(userId), WorkoutDTO.class);
+    }
+
+    /**
+     * Stream a user's goals, optionally filtered by ?status=
+     */
+    public Mono<ServerResponse> goalsByUser(ServerRequest request) {
+        Long userId = userId(request);
+        if (userId == null) {
+            return ServerResponse.badRequest().build();
+        }
+        String status = request.queryParam("status").orElse(null);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactiveReadService.streamGoalsByUserId(userId, status), GoalDTO.class);
+    }
+
+    private static Long userId(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("userId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.fitness_tracker_backend.controller;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.DashboardDTO;
 import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+import com.example.fitness_tracker_backend.dto.TrainingLoadDTO;
 import com.example.fitness_tracker_backend.dto.UserDTO;
+import com.example.fitness_tracker_backend.dto.UserSessionDTO;
+import com.example.fitness_tracker_backend.service.DashboardService;
 import com.example.fitness_tracker_backend.service.GoalService;
+import com.example.fitness_tracker_backend.service.PersonalRecordService;
+import com.example.fitness_tracker_backend.service.TrainingLoadService;
 import com.example.fitness_tracker_backend.service.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for User operations (Presentation Layer)
@@ -23,30 +36,121 @@ public class UserController {
 
     private final UserService userService;
     private final GoalService goalService;
+    private final DashboardService dashboardService;
+    private final PersonalRecordService personalRecordService;
+    private final TrainingLoadService trainingLoadService;
 
-    public UserController(UserService userService, GoalService goalService) {
+    public UserController(UserService userService, GoalService goalService, DashboardService dashboardService,
+                          PersonalRecordService personalRecordService, TrainingLoadService trainingLoadService) {
         this.userService = userService;
         this.goalService = goalService;
+        this.dashboardService = dashboardService;
+        this.personalRecordService = personalRecordService;
+        this.trainingLoadService = trainingLoadService;
     }
 
     /**
-     * Get all users
+     * Get all users, one keyset page at a time
      */
     @GetMapping
-    public List<UserDTO> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<CursorPageDTO<UserDTO>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(userService.getAllUsers(cursor, limit));
+        } catch (IllegalArgumentException invalidCursorException) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * Get user by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserDTO> getUserById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Tag before body: a concurrent write can only leave the tag older than the body, never newer
+        Optional<String> eTag = userService.getChangeStamp(id).map(EntityTags::ofProfile);
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (EntityTags.matches(ifNoneMatch, eTag.get())) {
+            return EntityTags.notModified(eTag.get());
+        }
+
         return userService.getUserById(id)
+                .map(user -> EntityTags.ok(eTag.get(), user))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a user's dashboard: recent workouts, active goals due soonest and this week's totals
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<DashboardDTO> getDashboard(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer workouts,
+            @RequestParam(required = false) Integer goals) {
+        return dashboardService.getDashboard(id, workouts, goals)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a user's personal records for every exercise they have logged
+     */
+    @GetMapping("/{id}/personal-records")
+    public ResponseEntity<List<PersonalRecordDTO>> getPersonalRecords(@PathVariable Long id) {
+        return ResponseEntity.ok(personalRecordService.getPersonalRecords(id));
+    }
+
+    /**
+     * Get a user's personal records for one exercise
+     */
+    @GetMapping("/{id}/personal-records/{exerciseName}")
+    public ResponseEntity<PersonalRecordDTO> getPersonalRecord(
+            @PathVariable Long id, @PathVariable String exerciseName) {
+        return personalRecordService.getPersonalRecord(id, exerciseName)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a user's acute and chronic training load as of today
+     */
+    @GetMapping("/{id}/training-load")
+    public ResponseEntity<TrainingLoadDTO> getTrainingLoad(@PathVariable Long id) {
+        return trainingLoadService.getCurrentLoad(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get a user's daily training load between from and to (inclusive), defaulting to the last 28 days
+     * Revalidates against the user's activity, so polling dashboards mostly get 304s
+     */
+    @GetMapping("/{id}/training-load/series")
+    public ResponseEntity<List<TrainingLoadDTO>> getTrainingLoadSeries(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate last = to == null ? LocalDate.now() : to;
+        LocalDate first = from == null ? last.minusDays(27) : from;
+        try {
+            String eTag = userService.getChangeStamp(id)
+                    .map(stamp -> to == null ? EntityTags.ofActivity(stamp, last) : EntityTags.ofActivity(stamp))
+                    .orElse(null);
+            if (EntityTags.matches(ifNoneMatch, eTag)) {
+                return EntityTags.notModified(eTag);
+            }
+            return EntityTags.ok(eTag, trainingLoadService.getLoadSeries(id, first, last));
+        } catch (IllegalArgumentException invalidRangeException) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get user by username
      */
@@ -57,6 +161,22 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Log in with email and password
+     */
+    @PostMapping("/login")
+    public ResponseEntity<UserSessionDTO> login(@RequestBody JsonNode requestBody) {
+        if (!requestBody.hasNonNull("email") || !requestBody.hasNonNull("password")) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return userService.authenticate(
+                        requestBody.get("email").asText(),
+                        requestBody.get("password").asText())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
     /**
      * Create a new user
      */
@@ -138,10 +258,21 @@ public class UserController {
      * Update user
      */
     @PutMapping("/{id}")
-    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @RequestBody UserDTO userDTO) {
+    public ResponseEntity<UserDTO> updateUser(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserDTO userDTO) {
         try {
+            Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+            if (expectedVersion != null) {
+                userDTO.setVersion(expectedVersion);
+            }
             UserDTO updatedUser = userService.updateUser(id, userDTO);
-            return ResponseEntity.ok(updatedUser);
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedUser.getVersion())).body(updatedUser);
+        } catch (IllegalArgumentException invalidIfMatchException) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException concurrentUpdateException) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
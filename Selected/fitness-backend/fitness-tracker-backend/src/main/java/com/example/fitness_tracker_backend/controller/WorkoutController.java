@@ -1,13 +1,30 @@
 package com.example.fitness_tracker_backend.controller;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutBatchResultDTO;
 import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutStatsBucketDTO;
+import com.example.fitness_tracker_backend.exception.ResourceNotFoundException;
 import com.example.fitness_tracker_backend.service.WorkoutService;
+import com.example.fitness_tracker_backend.service.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for Workout operations (Presentation Layer)
@@ -19,17 +36,25 @@ import java.util.List;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final UserService userService;
 
-    public WorkoutController(WorkoutService workoutService) {
+    public WorkoutController(WorkoutService workoutService, UserService userService) {
         this.workoutService = workoutService;
+        this.userService = userService;
     }
 
     /**
-     * Get all workouts
+     * Get all workouts, one keyset page at a time
      */
     @GetMapping
-    public List<WorkoutDTO> getAllWorkouts() {
-        return workoutService.getAllWorkouts();
+    public ResponseEntity<CursorPageDTO<WorkoutDTO>> getAllWorkouts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(workoutService.getAllWorkouts(cursor, limit));
+        } catch (IllegalArgumentException invalidCursorException) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -38,16 +63,60 @@ public class WorkoutController {
     @GetMapping("/{id}")
     public ResponseEntity<WorkoutDTO> getWorkoutById(@PathVariable Long id) {
         return workoutService.getWorkoutById(id)
-                .map(ResponseEntity::ok)
+                .map(workout -> ResponseEntity.ok().eTag(EntityTags.of(workout.getVersion())).body(workout))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Get workouts by user ID
+     * Get workouts by user ID, one keyset page at a time
      */
     @GetMapping("/user/{userId}")
-    public List<WorkoutDTO> getWorkoutsByUserId(@PathVariable Long userId) {
-        return workoutService.getWorkoutsByUserId(userId);
+    public ResponseEntity<CursorPageDTO<WorkoutDTO>> getWorkoutsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            String eTag = userService.getChangeStamp(userId).map(EntityTags::ofActivity).orElse(null);
+            if (EntityTags.matches(ifNoneMatch, eTag)) {
+                return EntityTags.notModified(eTag);
+            }
+            return EntityTags.ok(eTag, workoutService.getWorkoutsByUserId(userId, cursor, limit));
+        } catch (IllegalArgumentException invalidCursorException) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Export a user's full workout history as newline-delimited JSON
+     */
+    @GetMapping(value = "/user/{userId}/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportWorkoutsByUserId(@PathVariable Long userId) {
+        StreamingResponseBody body = outputStream -> workoutService.exportWorkoutsByUserId(userId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Workout statistics for a user per day, week or month between two dates (both inclusive)
+     */
+    @GetMapping("/user/{userId}/stats")
+    public ResponseEntity<List<WorkoutStatsBucketDTO>> getWorkoutStats(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "week") String bucket,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            String eTag = userService.getChangeStamp(userId).map(EntityTags::ofActivity).orElse(null);
+            if (EntityTags.matches(ifNoneMatch, eTag)) {
+                return EntityTags.notModified(eTag);
+            }
+            return EntityTags.ok(eTag, workoutService.getWorkoutStats(userId, from, to, bucket));
+        } catch (IllegalArgumentException invalidRangeException) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -58,43 +127,7 @@ public class WorkoutController {
         try {
             System.out.println("Received workout request: " + requestBody.toString());
             
-            WorkoutDTO workoutDTO = new WorkoutDTO();
-            workoutDTO.setName(requestBody.get("name").asText());
-            
-            if (requestBody.has("description")) {
-                workoutDTO.setDescription(requestBody.get("description").asText());
-            }
-            
-            if (requestBody.has("type")) {
-                workoutDTO.setType(requestBody.get("type").asText());
-            }
-            
-            if (requestBody.has("duration")) {
-                workoutDTO.setDuration(requestBody.get("duration").asInt());
-            }
-            
-            if (requestBody.has("caloriesBurned")) {
-                workoutDTO.setCaloriesBurned(requestBody.get("caloriesBurned").asInt());
-            }
-            
-            // Parse startTime
-            if (requestBody.has("startTime")) {
-                String startTimeStr = requestBody.get("startTime").asText();
-                System.out.println("Parsing startTime: " + startTimeStr);
-                if (startTimeStr.endsWith("Z")) {
-                    startTimeStr = startTimeStr.substring(0, startTimeStr.length() - 1);
-                }
-                workoutDTO.setStartTime(LocalDateTime.parse(startTimeStr));
-            } else {
-                workoutDTO.setStartTime(LocalDateTime.now());
-            }
-            
-            // Set user ID
-            if (requestBody.has("userId")) {
-                Long userId = requestBody.get("userId").asLong();
-                System.out.println("Setting userId: " + userId);
-                workoutDTO.setUserId(userId);
-            }
+            WorkoutDTO workoutDTO = parseWorkout(requestBody);
             
             WorkoutDTO savedWorkout = workoutService.createWorkout(workoutDTO);
             System.out.println("Workout saved successfully with ID: " + savedWorkout.getId());
@@ -107,14 +140,55 @@ public class WorkoutController {
         }
     }
 
+    /**
+     * Create many workouts for one user in a single transaction (offline sync)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<WorkoutBatchResultDTO> createWorkouts(@RequestBody JsonNode requestBody) {
+        if (!requestBody.hasNonNull("userId") || !requestBody.path("workouts").isArray()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Each item is parsed on its own so one malformed workout is reported, not the whole batch
+        List<WorkoutDTO> workoutDTOs = new ArrayList<>();
+        Map<Integer, String> rejected = new HashMap<>();
+        for (JsonNode workoutNode : requestBody.get("workouts")) {
+            try {
+                workoutDTOs.add(parseWorkout(workoutNode));
+            } catch (DateTimeParseException invalidStartTimeException) {
+                rejected.put(workoutDTOs.size(), "Workout startTime is not a valid ISO-8601 date-time");
+                workoutDTOs.add(null);
+            }
+        }
+
+        try {
+            return ResponseEntity.ok(workoutService.createWorkouts(requestBody.get("userId").asLong(), workoutDTOs, rejected));
+        } catch (ResourceNotFoundException userNotFoundException) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException oversizedBatchException) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Update workout
      */
     @PutMapping("/{id}")
-    public ResponseEntity<WorkoutDTO> updateWorkout(@PathVariable Long id, @RequestBody WorkoutDTO workoutDTO) {
+    public ResponseEntity<WorkoutDTO> updateWorkout(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody WorkoutDTO workoutDTO) {
         try {
+            Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+            if (expectedVersion != null) {
+                workoutDTO.setVersion(expectedVersion);
+            }
             WorkoutDTO updatedWorkout = workoutService.updateWorkout(id, workoutDTO);
-            return ResponseEntity.ok(updatedWorkout);
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedWorkout.getVersion())).body(updatedWorkout);
+        } catch (IllegalArgumentException invalidIfMatchException) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException concurrentUpdateException) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -132,4 +206,83 @@ public class WorkoutController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    private WorkoutDTO parseWorkout(JsonNode requestBody) {
+        WorkoutDTO workoutDTO = new WorkoutDTO();
+        if (requestBody.hasNonNull("name")) {
+            workoutDTO.setName(requestBody.get("name").asText());
+        }
+        
+        if (requestBody.has("description")) {
+            workoutDTO.setDescription(requestBody.get("description").asText());
+        }
+        
+        if (requestBody.has("type")) {
+            workoutDTO.setType(requestBody.get("type").asText());
+        }
+        
+        if (requestBody.has("duration")) {
+            workoutDTO.setDuration(requestBody.get("duration").asInt());
+        }
+        
+        if (requestBody.has("caloriesBurned")) {
+            workoutDTO.setCaloriesBurned(requestBody.get("caloriesBurned").asInt());
+        }
+        
+        // Parse startTime
+        if (requestBody.has("startTime")) {
+            String startTimeStr = requestBody.get("startTime").asText();
+            if (startTimeStr.endsWith("Z")) {
+                startTimeStr = startTimeStr.substring(0, startTimeStr.length() - 1);
+            }
+            workoutDTO.setStartTime(LocalDateTime.parse(startTimeStr));
+        } else {
+            workoutDTO.setStartTime(LocalDateTime.now());
+        }
+        
+        // Set user ID
+        if (requestBody.has("userId")) {
+            workoutDTO.setUserId(requestBody.get("userId").asLong());
+        }
+        
+        // Nested exercises
+        if (requestBody.path("exercises").isArray()) {
+            List<ExerciseDTO> exercises = new ArrayList<>();
+            for (JsonNode exerciseNode : requestBody.get("exercises")) {
+                exercises.add(parseExercise(exerciseNode));
+            }
+            workoutDTO.setExercises(exercises);
+        }
+        
+        return workoutDTO;
+    }
+
+    private ExerciseDTO parseExercise(JsonNode exerciseNode) {
+        ExerciseDTO exerciseDTO = new ExerciseDTO();
+        if (exerciseNode.hasNonNull("name")) {
+            exerciseDTO.setName(exerciseNode.get("name").asText());
+        }
+        if (exerciseNode.hasNonNull("description")) {
+            exerciseDTO.setDescription(exerciseNode.get("description").asText());
+        }
+        if (exerciseNode.hasNonNull("category")) {
+            exerciseDTO.setCategory(exerciseNode.get("category").asText());
+        }
+        if (exerciseNode.hasNonNull("sets")) {
+            exerciseDTO.setSets(exerciseNode.get("sets").asInt());
+        }
+        if (exerciseNode.hasNonNull("reps")) {
+            exerciseDTO.setReps(exerciseNode.get("reps").asInt());
+        }
+        if (exerciseNode.hasNonNull("weight")) {
+            exerciseDTO.setWeight(exerciseNode.get("weight").asDouble());
+        }
+        if (exerciseNode.hasNonNull("duration")) {
+            exerciseDTO.setDuration(exerciseNode.get("duration").asInt());
+        }
+        if (exerciseNode.hasNonNull("restTime")) {
+            exerciseDTO.setRestTime(exerciseNode.get("restTime").asInt());
+        }
+        return exerciseDTO;
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a user's dashboard
+ * Bounded in size: the latest workouts, the active goals due soonest and this week's totals
+ */
+public class DashboardDTO {
+    private Long userId;
+    private List<WorkoutDTO> recentWorkouts; // newest first, without exercises
+    private List<GoalDTO> activeGoals; // earliest target date first
+    private WorkoutTotalsDTO weeklyTotals; // current week, starting Monday
+
+    // Constructors
+    public DashboardDTO() {}
+
+    public DashboardDTO(Long userId, List<WorkoutDTO> recentWorkouts, List<GoalDTO> activeGoals,
+                        WorkoutTotalsDTO weeklyTotals) {
+        this.userId = userId;
+        this.recentWorkouts = recentWorkouts;
+        this.activeGoals = activeGoals;
+        this.weeklyTotals = weeklyTotals;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<WorkoutDTO> getRecentWorkouts() {
+        return recentWorkouts;
+    }
+
+    public void setRecentWorkouts(List<WorkoutDTO> recentWorkouts) {
+        this.recentWorkouts = recentWorkouts;
+    }
+
+    public List<GoalDTO> getActiveGoals() {
+        return activeGoals;
+    }
+
+    public void setActiveGoals(List<GoalDTO> activeGoals) {
+        this.activeGoals = activeGoals;
+    }
+
+    public WorkoutTotalsDTO getWeeklyTotals() {
+        return weeklyTotals;
+    }
+
+    public void setWeeklyTotals(WorkoutTotalsDTO weeklyTotals) {
+        this.weeklyTotals = weeklyTotals;
+    }
+}
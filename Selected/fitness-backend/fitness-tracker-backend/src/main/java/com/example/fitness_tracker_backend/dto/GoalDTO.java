@@ -8,6 +8,7 @@ import java.time.LocalDate;
  */
 public class GoalDTO {
     private Long id;
+    private Long version; // optimistic locking; sent back on update to detect conflicting edits
     private String title;
     private String description;
     private LocalDate targetDate;
@@ -38,6 +39,14 @@ public class GoalDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
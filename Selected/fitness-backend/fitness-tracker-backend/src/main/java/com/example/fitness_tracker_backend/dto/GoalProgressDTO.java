@@ -0,0 +1,75 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the progress a saved workout made on one goal
+ * Returned with the created workout so the client does not recompute it
+ */
+public class GoalProgressDTO {
+    private Long goalId;
+    private String title;
+    private Double previousValue;
+    private Double currentValue;
+    private String status; // active, completed
+    private List<String> summaries; // human-readable progress notes, one per improving exercise
+
+    // Constructors
+    public GoalProgressDTO() {}
+
+    public GoalProgressDTO(Long goalId, String title, Double previousValue) {
+        this.goalId = goalId;
+        this.title = title;
+        this.previousValue = previousValue;
+        this.currentValue = previousValue;
+    }
+
+    // Getters and Setters
+    public Long getGoalId() {
+        return goalId;
+    }
+
+    public void setGoalId(Long goalId) {
+        this.goalId = goalId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Double getPreviousValue() {
+        return previousValue;
+    }
+
+    public void setPreviousValue(Double previousValue) {
+        this.previousValue = previousValue;
+    }
+
+    public Double getCurrentValue() {
+        return currentValue;
+    }
+
+    public void setCurrentValue(Double currentValue) {
+        this.currentValue = currentValue;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<String> getSummaries() {
+        return summaries;
+    }
+
+    public void setSummaries(List<String> summaries) {
+        this.summaries = summaries;
+    }
+}
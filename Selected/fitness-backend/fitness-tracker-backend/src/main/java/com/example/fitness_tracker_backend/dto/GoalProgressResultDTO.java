@@ -0,0 +1,55 @@
+package com.example.fitness_tracker_backend.dto;
+
+/**
+ * Data Transfer Object for the outcome of one entry of a bulk goal progress update
+ * Exactly one of goal or error is set
+ */
+public class GoalProgressResultDTO {
+    private int index; // position of the entry in the request
+    private Long id;
+    private GoalDTO goal;
+    private String error;
+
+    // Constructors
+    public GoalProgressResultDTO() {}
+
+    public GoalProgressResultDTO(int index, Long id, GoalDTO goal, String error) {
+        this.index = index;
+        this.id = id;
+        this.goal = goal;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public GoalDTO getGoal() {
+        return goal;
+    }
+
+    public void setGoal(GoalDTO goal) {
+        this.goal = goal;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
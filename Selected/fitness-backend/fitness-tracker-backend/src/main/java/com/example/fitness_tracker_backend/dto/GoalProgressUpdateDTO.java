@@ -0,0 +1,34 @@
+package com.example.fitness_tracker_backend.dto;
+
+/**
+ * Data Transfer Object for one entry of a bulk goal progress update
+ */
+public class GoalProgressUpdateDTO {
+    private Long id;
+    private Double currentValue;
+
+    // Constructors
+    public GoalProgressUpdateDTO() {}
+
+    public GoalProgressUpdateDTO(Long id, Double currentValue) {
+        this.id = id;
+        this.currentValue = currentValue;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Double getCurrentValue() {
+        return currentValue;
+    }
+
+    public void setCurrentValue(Double currentValue) {
+        this.currentValue = currentValue;
+    }
+}
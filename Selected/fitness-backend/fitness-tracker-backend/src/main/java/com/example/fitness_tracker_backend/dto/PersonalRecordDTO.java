@@ -0,0 +1,81 @@
+package com.example.fitness_tracker_backend.dto;
+
+/**
+ * Data Transfer Object for a user's personal records on one exercise
+ * exerciseName is trimmed and lower-cased; weights are in kg, longestDuration in seconds.
+ * estimatedOneRepMax is the best single set by Brzycki up to 10 reps and Epley above.
+ * Any record the user has never logged is null.
+ */
+public class PersonalRecordDTO {
+    private String exerciseName;
+    private Double maxWeight;
+    private Integer repsAtMaxWeight;
+    private Integer maxReps;
+    private Double weightAtMaxReps;
+    private Double estimatedOneRepMax;
+    private Integer longestDuration;
+
+    // Constructors
+    public PersonalRecordDTO() {}
+
+    public PersonalRecordDTO(String exerciseName) {
+        this.exerciseName = exerciseName;
+    }
+
+    // Getters and Setters
+    public String getExerciseName() {
+        return exerciseName;
+    }
+
+    public void setExerciseName(String exerciseName) {
+        this.exerciseName = exerciseName;
+    }
+
+    public Double getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(Double maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public Integer getRepsAtMaxWeight() {
+        return repsAtMaxWeight;
+    }
+
+    public void setRepsAtMaxWeight(Integer repsAtMaxWeight) {
+        this.repsAtMaxWeight = repsAtMaxWeight;
+    }
+
+    public Integer getMaxReps() {
+        return maxReps;
+    }
+
+    public void setMaxReps(Integer maxReps) {
+        this.maxReps = maxReps;
+    }
+
+    public Double getWeightAtMaxReps() {
+        return weightAtMaxReps;
+    }
+
+    public void setWeightAtMaxReps(Double weightAtMaxReps) {
+        this.weightAtMaxReps = weightAtMaxReps;
+    }
+
+    public Double getEstimatedOneRepMax() {
+        return estimatedOneRepMax;
+    }
+
+    public void setEstimatedOneRepMax(Double estimatedOneRepMax) {
+        this.estimatedOneRepMax = estimatedOneRepMax;
+    }
+
+    public Integer getLongestDuration() {
+        return longestDuration;
+    }
+
+    public void setLongestDuration(Integer longestDuration) {
+        this.longestDuration = longestDuration;
+    }
+}
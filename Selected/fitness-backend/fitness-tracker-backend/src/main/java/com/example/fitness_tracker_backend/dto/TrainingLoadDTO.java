@@ -0,0 +1,70 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for a user's training load on one day
+ * acuteLoad and chronicLoad are 7- and 28-day exponentially weighted averages of the daily load;
+ * acuteChronicRatio is null while the chronic load is still zero.
+ * load is that day's own load, and null on the current snapshot.
+ */
+public class TrainingLoadDTO {
+    private LocalDate day;
+    private Double load;
+    private double acuteLoad;
+    private double chronicLoad;
+    private Double acuteChronicRatio;
+
+    // Constructors
+    public TrainingLoadDTO() {}
+
+    public TrainingLoadDTO(LocalDate day, Double load, double acuteLoad, double chronicLoad) {
+        this.day = day;
+        this.load = load;
+        this.acuteLoad = acuteLoad;
+        this.chronicLoad = chronicLoad;
+        // Below this the chronic load is rounding residue, not training
+        this.acuteChronicRatio = chronicLoad > 1e-6 ? acuteLoad / chronicLoad : null;
+    }
+
+    // Getters and Setters
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Double getLoad() {
+        return load;
+    }
+
+    public void setLoad(Double load) {
+        this.load = load;
+    }
+
+    public double getAcuteLoad() {
+        return acuteLoad;
+    }
+
+    public void setAcuteLoad(double acuteLoad) {
+        this.acuteLoad = acuteLoad;
+    }
+
+    public double getChronicLoad() {
+        return chronicLoad;
+    }
+
+    public void setChronicLoad(double chronicLoad) {
+        this.chronicLoad = chronicLoad;
+    }
+
+    public Double getAcuteChronicRatio() {
+        return acuteChronicRatio;
+    }
+
+    public void setAcuteChronicRatio(Double acuteChronicRatio) {
+        this.acuteChronicRatio = acuteChronicRatio;
+    }
+}
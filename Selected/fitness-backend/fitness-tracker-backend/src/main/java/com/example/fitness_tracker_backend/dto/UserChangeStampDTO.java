@@ -0,0 +1,35 @@
+package com.example.fitness_tracker_backend.dto;
+
+/**
+ * Data Transfer Object for the freshness stamp of a user's data
+ * version changes with the user row, changeCounter with the user's workouts, exercises and goals
+ */
+public class UserChangeStampDTO {
+    private Long version;
+    private Long changeCounter;
+
+    // Constructors
+    public UserChangeStampDTO() {}
+
+    public UserChangeStampDTO(Long version, Long changeCounter) {
+        this.version = version;
+        this.changeCounter = changeCounter;
+    }
+
+    // Getters and Setters
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getChangeCounter() {
+        return changeCounter;
+    }
+
+    public void setChangeCounter(Long changeCounter) {
+        this.changeCounter = changeCounter;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
  */
 public class UserDTO {
     private Long id;
+    private Long version; // optimistic locking; sent back on update to detect conflicting edits
     private String username;
     private String email;
     // Password is optional; used only during account creation/update
@@ -41,6 +42,14 @@ public class UserDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getUsername() {
         return username;
     }
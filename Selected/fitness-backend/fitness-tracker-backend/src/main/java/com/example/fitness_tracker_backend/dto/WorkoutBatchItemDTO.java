@@ -0,0 +1,45 @@
+package com.example.fitness_tracker_backend.dto;
+
+/**
+ * Data Transfer Object for the outcome of one workout in a batch upload
+ * Exactly one of id or error is set
+ */
+public class WorkoutBatchItemDTO {
+    private int index; // position of the workout in the request
+    private Long id;
+    private String error;
+
+    // Constructors
+    public WorkoutBatchItemDTO() {}
+
+    public WorkoutBatchItemDTO(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the result of a batch workout upload
+ * Items are reported in request order
+ */
+public class WorkoutBatchResultDTO {
+    private int created;
+    private int failed;
+    private List<WorkoutBatchItemDTO> items;
+
+    // Constructors
+    public WorkoutBatchResultDTO() {}
+
+    public WorkoutBatchResultDTO(int created, int failed, List<WorkoutBatchItemDTO> items) {
+        this.created = created;
+        this.failed = failed;
+        this.items = items;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<WorkoutBatchItemDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<WorkoutBatchItemDTO> items) {
+        this.items = items;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
  */
 public class WorkoutDTO {
     private Long id;
+    private Long version; // optimistic locking; sent back on update to detect conflicting edits
     private String name;
     private String description;
     private LocalDateTime startTime;
@@ -18,6 +19,7 @@ public class WorkoutDTO {
     private Integer caloriesBurned;
     private Long userId;
     private List<ExerciseDTO> exercises;
+    private List<GoalProgressDTO> goalProgress; // set only on the create response
 
     // Constructors
     public WorkoutDTO() {}
@@ -37,6 +39,14 @@ public class WorkoutDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -108,5 +118,13 @@ public class WorkoutDTO {
     public void setExercises(List<ExerciseDTO> exercises) {
         this.exercises = exercises;
     }
+
+    public List<GoalProgressDTO> getGoalProgress() {
+        return goalProgress;
+    }
+
+    public void setGoalProgress(List<GoalProgressDTO> goalProgress) {
+        this.goalProgress = goalProgress;
+    }
 }
 
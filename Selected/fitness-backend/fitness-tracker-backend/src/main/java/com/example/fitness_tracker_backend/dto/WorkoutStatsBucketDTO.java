@@ -0,0 +1,65 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the workout totals of one time bucket (day, week or month)
+ * totalDuration is in minutes; countsByType keys workouts without a type as "unspecified"
+ */
+public class WorkoutStatsBucketDTO {
+    private LocalDate periodStart;
+    private long workoutCount;
+    private long totalDuration;
+    private long totalCaloriesBurned;
+    private Map<String, Long> countsByType = new LinkedHashMap<>();
+
+    // Constructors
+    public WorkoutStatsBucketDTO() {}
+
+    public WorkoutStatsBucketDTO(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    // Getters and Setters
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public long getWorkoutCount() {
+        return workoutCount;
+    }
+
+    public void setWorkoutCount(long workoutCount) {
+        this.workoutCount = workoutCount;
+    }
+
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+
+    public void setTotalDuration(long totalDuration) {
+        this.totalDuration = totalDuration;
+    }
+
+    public long getTotalCaloriesBurned() {
+        return totalCaloriesBurned;
+    }
+
+    public void setTotalCaloriesBurned(long totalCaloriesBurned) {
+        this.totalCaloriesBurned = totalCaloriesBurned;
+    }
+
+    public Map<String, Long> getCountsByType() {
+        return countsByType;
+    }
+
+    public void setCountsByType(Map<String, Long> countsByType) {
+        this.countsByType = countsByType;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.fitness_tracker_backend.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for workout totals over a period starting at periodStart
+ * totalDuration is in minutes
+ */
+public class WorkoutTotalsDTO {
+    private LocalDate periodStart;
+    private long workoutCount;
+    private long totalDuration;
+    private long totalCaloriesBurned;
+
+    // Constructors
+    public WorkoutTotalsDTO() {}
+
+    public WorkoutTotalsDTO(LocalDate periodStart, long workoutCount, long totalDuration, long totalCaloriesBurned) {
+        this.periodStart = periodStart;
+        this.workoutCount = workoutCount;
+        this.totalDuration = totalDuration;
+        this.totalCaloriesBurned = totalCaloriesBurned;
+    }
+
+    // Getters and Setters
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public long getWorkoutCount() {
+        return workoutCount;
+    }
+
+    public void setWorkoutCount(long workoutCount) {
+        this.workoutCount = workoutCount;
+    }
+
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+
+    public void setTotalDuration(long totalDuration) {
+        this.totalDuration = totalDuration;
+    }
+
+    public long getTotalCaloriesBurned() {
+        return totalCaloriesBurned;
+    }
+
+    public void setTotalCaloriesBurned(long totalCaloriesBurned) {
+        this.totalCaloriesBurned = totalCaloriesBurned;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.fitness_tracker_backend.exception;
+
+/**
+ * Thrown when a referenced entity does not exist
+ * Controllers map it to 404; other runtime failures surface as 5xx
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -23,6 +23,7 @@ public class GoalMapper {
 
         GoalDTO dto = new GoalDTO();
         dto.setId(goal.getId());
+        dto.setVersion(goal.getVersion());
         dto.setTitle(goal.getTitle());
         dto.setDescription(goal.getDescription());
         dto.setTargetDate(goal.getTargetDate());
@@ -1,9 +1,17 @@
 package com.example.fitness_tracker_backend.mapper;
 
+import com.example.fitness_tracker_backend.dto.UserChangeStampDTO;
 import com.example.fitness_tracker_backend.dto.UserDTO;
+import com.example.fitness_tracker_backend.dto.UserSessionDTO;
+import com.example.fitness_tracker_backend.model.Goal;
 import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.UserChangeStampView;
+import com.example.fitness_tracker_backend.repository.UserCredentialsView;
+import com.example.fitness_tracker_backend.repository.UserSummaryView;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -22,7 +30,8 @@ public class UserMapper {
     }
 
     /**
-     * Converts User entity to UserDTO
+     * Converts User entity to UserDTO with profile fields only
+     * The workout and goal collections are never touched, so the cost does not grow with history
      * @param user the User entity
      * @return UserDTO
      */
@@ -33,6 +42,7 @@ public class UserMapper {
 
         UserDTO dto = new UserDTO();
         dto.setId(user.getId());
+        dto.setVersion(user.getVersion());
         dto.setUsername(user.getUsername());
         dto.setEmail(user.getEmail());
         dto.setPassword(user.getPassword());
@@ -44,19 +54,30 @@ public class UserMapper {
         dto.setWeight(user.getWeight());
         dto.setFitnessLevel(user.getFitnessLevel());
 
-        // Convert related entities (avoid circular references by using simplified versions)
-        if (user.getWorkouts() != null) {
-            dto.setWorkouts(user.getWorkouts().stream()
-                    .map(workoutMapper::toSimpleDTO)
-                    .collect(Collectors.toList()));
-        }
+        return dto;
+    }
 
-        if (user.getGoals() != null) {
-            dto.setGoals(user.getGoals().stream()
-                    .map(goalMapper::toSimpleDTO)
-                    .collect(Collectors.toList()));
+    /**
+     * Converts User entity to UserDTO carrying bounded slices of its history
+     * @param user the User entity
+     * @param recentWorkouts Most recent workouts, already limited by the caller
+     * @param goals Goals, already selected by the caller
+     * @return UserDTO
+     */
+    public UserDTO toProfileDTO(User user, List<Workout> recentWorkouts, List<Goal> goals) {
+        UserDTO dto = toDTO(user);
+        if (dto == null) {
+            return null;
         }
 
+        // Simplified versions avoid circular references
+        dto.setWorkouts(recentWorkouts.stream()
+                .map(workoutMapper::toSimpleDTO)
+                .collect(Collectors.toList()));
+        dto.setGoals(goals.stream()
+                .map(goalMapper::toSimpleDTO)
+                .collect(Collectors.toList()));
+
         return dto;
     }
 
@@ -96,6 +117,7 @@ public class UserMapper {
 
         UserDTO dto = new UserDTO();
         dto.setId(user.getId());
+        dto.setVersion(user.getVersion());
         dto.setUsername(user.getUsername());
         dto.setEmail(user.getEmail());
         dto.setFirstName(user.getFirstName());
@@ -108,5 +130,60 @@ public class UserMapper {
 
         return dto;
     }
-}
 
+    /**
+     * Converts the login projection to the compact session payload
+     * @param credentials the UserCredentialsView projection
+     * @return UserSessionDTO
+     */
+    public UserSessionDTO toSessionDTO(UserCredentialsView credentials) {
+        if (credentials == null) {
+            return null;
+        }
+
+        return new UserSessionDTO(
+                credentials.getId(),
+                credentials.getUsername(),
+                credentials.getEmail(),
+                credentials.getFirstName(),
+                credentials.getLastName());
+    }
+
+    /**
+     * Converts the profile summary projection to a UserDTO without workouts or goals
+     * @param summary the UserSummaryView projection
+     * @return UserDTO
+     */
+    public UserDTO toSummaryDTO(UserSummaryView summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        UserDTO dto = new UserDTO();
+        dto.setId(summary.getId());
+        dto.setUsername(summary.getUsername());
+        dto.setEmail(summary.getEmail());
+        dto.setFirstName(summary.getFirstName());
+        dto.setLastName(summary.getLastName());
+        dto.setDateOfBirth(summary.getDateOfBirth());
+        dto.setGender(summary.getGender());
+        dto.setHeight(summary.getHeight());
+        dto.setWeight(summary.getWeight());
+        dto.setFitnessLevel(summary.getFitnessLevel());
+
+        return dto;
+    }
+
+    /**
+     * Converts the change stamp projection to a UserChangeStampDTO
+     * @param stamp the UserChangeStampView projection
+     * @return UserChangeStampDTO
+     */
+    public UserChangeStampDTO toChangeStampDTO(UserChangeStampView stamp) {
+        if (stamp == null) {
+            return null;
+        }
+
+        return new UserChangeStampDTO(stamp.getVersion(), stamp.getChangeCounter());
+    }
+}
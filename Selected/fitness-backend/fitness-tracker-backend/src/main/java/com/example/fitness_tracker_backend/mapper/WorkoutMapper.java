@@ -1,9 +1,13 @@
 package com.example.fitness_tracker_backend.mapper;
 
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
 import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.Exercise;
 import com.example.fitness_tracker_backend.model.Workout;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +35,7 @@ public class WorkoutMapper {
 
         WorkoutDTO dto = new WorkoutDTO();
         dto.setId(workout.getId());
+        dto.setVersion(workout.getVersion());
         dto.setName(workout.getName());
         dto.setDescription(workout.getDescription());
         dto.setStartTime(workout.getStartTime());
@@ -72,6 +77,17 @@ public class WorkoutMapper {
         workout.setType(dto.getType());
         workout.setCaloriesBurned(dto.getCaloriesBurned());
 
+        // Nested exercises are persisted through the Workout.exercises cascade
+        List<Exercise> exercises = new ArrayList<>();
+        if (dto.getExercises() != null) {
+            for (ExerciseDTO exerciseDTO : dto.getExercises()) {
+                Exercise exercise = exerciseMapper.toEntity(exerciseDTO);
+                exercise.setWorkout(workout);
+                exercises.add(exercise);
+            }
+        }
+        workout.setExercises(exercises);
+
         return workout;
     }
 
@@ -85,6 +101,7 @@ public class WorkoutMapper {
 
         WorkoutDTO dto = new WorkoutDTO();
         dto.setId(workout.getId());
+        dto.setVersion(workout.getVersion());
         dto.setName(workout.getName());
         dto.setDescription(workout.getDescription());
         dto.setStartTime(workout.getStartTime());
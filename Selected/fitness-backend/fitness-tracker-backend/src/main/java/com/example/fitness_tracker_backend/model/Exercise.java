@@ -8,7 +8,8 @@ import jakarta.validation.constraints.NotNull;
 @Table(name = "exercises")
 public class Exercise {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercises_seq")
+    @SequenceGenerator(name = "exercises_seq", sequenceName = "exercises_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -4,16 +4,22 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "workouts")
+@NamedEntityGraph(name = "Workout.exercises", attributeNodes = @NamedAttributeNode("exercises"))
 public class Workout {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workouts_seq")
+    @SequenceGenerator(name = "workouts_seq", sequenceName = "workouts_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank
     private String name;
 
@@ -35,7 +41,10 @@ public class Workout {
     @JsonIgnore
     private User user;
 
+    // Batch size covers a full listing page, so a page loads its exercises in one query. The streamed
+    // export has no unread owners to batch with and fetch-joins its exercises per chunk instead
     @OneToMany(mappedBy = "workout", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 128)
     private List<Exercise> exercises;
 
     // Constructors
@@ -56,6 +65,14 @@ public class Workout {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
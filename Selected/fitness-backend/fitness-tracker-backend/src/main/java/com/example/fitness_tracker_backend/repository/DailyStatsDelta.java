@@ -0,0 +1,10 @@
+package com.example.fitness_tracker_backend.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Change to one user_daily_stats row: positive when workouts are added, negative when removed
+ */
+public record DailyStatsDelta(Long userId, LocalDate day, String type,
+                              int workoutCount, long totalDuration, long totalCaloriesBurned,
+                              double totalVolume) {}
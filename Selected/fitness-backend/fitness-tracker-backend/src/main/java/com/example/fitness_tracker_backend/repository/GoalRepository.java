@@ -1,16 +1,66 @@
 package com.example.fitness_tracker_backend.repository;
 
 import com.example.fitness_tracker_backend.model.Goal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface GoalRepository extends JpaRepository<Goal, Long> {
+public interface GoalRepository extends JpaRepository<Goal, Long>, GoalRepositoryCustom {
+    // Second-level query cache region for per-user goal lookups
+    String GOALS_BY_USER_REGION = "goals-by-user";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = GOALS_BY_USER_REGION)
+    })
     List<Goal> findByUserId(Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = GOALS_BY_USER_REGION)
+    })
     List<Goal> findByUserIdAndStatus(Long userId, String status);
     List<Goal> findByUserIdAndCategory(Long userId, String category);
-    boolean existsByUserIdAndStatusIgnoreCaseAndTitleIgnoreCase(Long userId, String status, String title);
-    boolean existsByUserIdAndStatusIgnoreCaseAndTitleIgnoreCaseAndIdNot(Long userId, String status, String title, Long id);
-}
\ No newline at end of file
+
+    // Keyset pagination seeking on id
+    List<Goal> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<Goal> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    // Bounded newest-first slice for the user profile, read backwards along idx_goals_user_id
+    List<Goal> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    // Active goals due soonest; the status literal lets Postgres use the partial idx_goals_user_active_target_date
+    @Query("SELECT g FROM Goal g WHERE g.user.id = :userId AND g.status = 'active' "
+            + "ORDER BY g.targetDate ASC, g.id ASC")
+    List<Goal> findActiveByUserIdOrderByTargetDate(@Param("userId") Long userId, Pageable pageable);
+
+    // Atomic progress update: keeps the highest value seen and completes the goal once the target is reached.
+    // SET expressions read the pre-update row, so concurrent calls serialize on the row lock without lost updates.
+    // Hibernate sees a plain native read here, so the returned row is kept out of the second-level cache;
+    // callers evict the goal once the transaction completes.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query(value = "UPDATE goals SET "
+            + "current_value = GREATEST(COALESCE(current_value, 0), :currentValue), "
+            + "status = CASE WHEN target_value IS NOT NULL "
+            + "AND GREATEST(COALESCE(current_value, 0), :currentValue) >= target_value "
+            + "THEN 'completed' ELSE status END, "
+            + "version = version + 1 "
+            + "WHERE id = :id RETURNING *", nativeQuery = true)
+    Optional<Goal> applyProgress(@Param("id") Long id, @Param("currentValue") Double currentValue);
+
+    // Reads back goals a native batch write just changed; kept out of the second-level cache like
+    // applyProgress, so concurrent readers never see the uncommitted rows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT g FROM Goal g WHERE g.id IN :ids")
+    List<Goal> findWrittenByIdIn(@Param("ids") Collection<Long> ids);
+}
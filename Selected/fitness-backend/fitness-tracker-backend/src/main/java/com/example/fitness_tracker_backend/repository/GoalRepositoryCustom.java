@@ -0,0 +1,20 @@
+package com.example.fitness_tracker_backend.repository;
+
+import java.util.List;
+
+/**
+ * Custom GoalRepository operations that go straight to JDBC
+ * Implemented by GoalRepositoryImpl
+ */
+public interface GoalRepositoryCustom {
+
+    /**
+     * Applies many progress values in one JDBC batch using the same
+     * keep-the-max / complete-at-target rule as GoalRepository.applyProgress
+     * Bypasses Hibernate, so callers must evict the goals from the second-level cache
+     * @param ids Goal IDs
+     * @param currentValues Progress values, aligned with ids
+     * @return Rows updated per entry (0 when the goal does not exist)
+     */
+    int[] applyProgressBatch(List<Long> ids, List<Double> currentValues);
+}
@@ -0,0 +1,36 @@
+package com.example.fitness_tracker_backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of GoalRepositoryCustom
+ * Runs on the connection of the surrounding JPA transaction
+ */
+public class GoalRepositoryImpl implements GoalRepositoryCustom {
+
+    private static final String APPLY_PROGRESS_SQL = "UPDATE goals SET "
+            + "current_value = GREATEST(COALESCE(current_value, 0), ?), "
+            + "status = CASE WHEN target_value IS NOT NULL "
+            + "AND GREATEST(COALESCE(current_value, 0), ?) >= target_value "
+            + "THEN 'completed' ELSE status END, "
+            + "version = version + 1 "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GoalRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] applyProgressBatch(List<Long> ids, List<Double> currentValues) {
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            batchArgs.add(new Object[] {currentValues.get(i), currentValues.get(i), ids.get(i)});
+        }
+        return jdbcTemplate.batchUpdate(APPLY_PROGRESS_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.fitness_tracker_backend.repository;
+
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the personal_records table
+ * Runs on the connection of the surrounding JPA transaction and uses the same per-user
+ * advisory lock as the daily rollup: shared for incremental writes, exclusive for a rebuild.
+ */
+@Repository
+public class PersonalRecordRepository {
+
+    private static final String COLUMNS = "exercise_name, max_weight, reps_at_max_weight, max_reps, "
+            + "weight_at_max_reps, estimated_one_rep_max, longest_duration";
+
+    // Keeps the better of the stored and new value of each record; the CTE takes the user lock first
+    private static final String MERGE_SQL = "WITH user_lock AS (SELECT pg_advisory_xact_lock_shared(?)) "
+            + "INSERT INTO personal_records AS pr (user_id, " + COLUMNS + ") "
+            + "SELECT ?, ?, ?, ?, ?, ?, ?, ? FROM user_lock "
+            + "ON CONFLICT (user_id, exercise_name) DO UPDATE SET "
+            + "max_weight = GREATEST(pr.max_weight, EXCLUDED.max_weight), "
+            + "reps_at_max_weight = CASE "
+            + "WHEN pr.max_weight IS NULL OR EXCLUDED.max_weight > pr.max_weight THEN EXCLUDED.reps_at_max_weight "
+            + "WHEN EXCLUDED.max_weight = pr.max_weight "
+            + "THEN GREATEST(pr.reps_at_max_weight, EXCLUDED.reps_at_max_weight) "
+            + "ELSE pr.reps_at_max_weight END, "
+            + "max_reps = GREATEST(pr.max_reps, EXCLUDED.max_reps), "
+            + "weight_at_max_reps = CASE "
+            + "WHEN pr.max_reps IS NULL OR EXCLUDED.max_reps > pr.max_reps THEN EXCLUDED.weight_at_max_reps "
+            + "WHEN EXCLUDED.max_reps = pr.max_reps "
+            + "THEN GREATEST(pr.weight_at_max_reps, EXCLUDED.weight_at_max_reps) "
+            + "ELSE pr.weight_at_max_reps END, "
+            + "estimated_one_rep_max = GREATEST(pr.estimated_one_rep_max, EXCLUDED.estimated_one_rep_max), "
+            + "longest_duration = GREATEST(pr.longest_duration, EXCLUDED.longest_duration)";
+
+    // Recomputes records from history; kept in step with PersonalRecordTracker.estimateOneRepMax
+    private static final String AGGREGATE_SQL = "INSERT INTO personal_records (user_id, " + COLUMNS + ") "
+            + "SELECT w.user_id, LOWER(TRIM(e.name)), MAX(e.weight), "
+            + "(ARRAY_AGG(e.reps ORDER BY e.weight DESC, e.reps DESC NULLS LAST) "
+            + "FILTER (WHERE e.weight IS NOT NULL))[1], "
+            + "MAX(e.reps), "
+            + "(ARRAY_AGG(e.weight ORDER BY e.reps DESC, e.weight DESC NULLS LAST) "
+            + "FILTER (WHERE e.reps IS NOT NULL))[1], "
+            + "MAX(CASE WHEN e.weight > 0 AND e.reps > 0 THEN CASE WHEN e.reps <= 10 "
+            + "THEN e.weight * 36 / (37 - e.reps) ELSE e.weight * (1 + e.reps / 30.0) END END), "
+            + "MAX(e.duration) "
+            + "FROM exercises e JOIN workouts w ON w.id = e.workout_id "
+            + "WHERE %s "
+            + "GROUP BY 1, 2 "
+            + "HAVING COUNT(e.weight) + COUNT(e.reps) + COUNT(e.duration) > 0";
+
+    private static final String REBUILD_USERS_SQL =
+            String.format(AGGREGATE_SQL, "w.user_id = ANY (?)");
+
+    private static final String REBUILD_EXERCISE_SQL =
+            String.format(AGGREGATE_SQL, "w.user_id = ? AND LOWER(TRIM(e.name)) = ?");
+
+    private static final String LOCK_USER_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+    // Locks in id order and returns the ids that were locked
+    private static final String LOCK_USER_RANGE_SQL = "SELECT id, pg_advisory_xact_lock(id) FROM users "
+            + "WHERE id >= ? AND id < ? ORDER BY id";
+
+    private static final RowMapper<PersonalRecordDTO> ROW_MAPPER = (resultSet, rowNum) -> {
+        PersonalRecordDTO record = new PersonalRecordDTO(resultSet.getString("exercise_name"));
+        record.setMaxWeight(resultSet.getObject("max_weight", Double.class));
+        record.setRepsAtMaxWeight(resultSet.getObject("reps_at_max_weight", Integer.class));
+        record.setMaxReps(resultSet.getObject("max_reps", Integer.class));
+        record.setWeightAtMaxReps(resultSet.getObject("weight_at_max_reps", Double.class));
+        record.setEstimatedOneRepMax(resultSet.getObject("estimated_one_rep_max", Double.class));
+        record.setLongestDuration(resultSet.getObject("longest_duration", Integer.class));
+        return record;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PersonalRecordRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * One primary key lookup
+     */
+    public Optional<PersonalRecordDTO> findByUserIdAndExerciseName(Long userId, String exerciseName) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM personal_records "
+                        + "WHERE user_id = ? AND exercise_name = ?", ROW_MAPPER, userId, exerciseName)
+                .stream().findFirst();
+    }
+
+    /**
+     * Primary key prefix scan, ordered by exercise name
+     */
+    public List<PersonalRecordDTO> findByUserId(Long userId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM personal_records "
+                + "WHERE user_id = ? ORDER BY exercise_name", ROW_MAPPER, userId);
+    }
+
+    /**
+     * Merges candidate records into the stored ones in one JDBC batch
+     * @param candidates At most one per exercise name
+     */
+    public void mergeAll(Long userId, Collection<PersonalRecordDTO> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(candidates.size());
+        for (PersonalRecordDTO candidate : candidates) {
+            batchArgs.add(new Object[] {userId, userId, candidate.getExerciseName(),
+                    candidate.getMaxWeight(), candidate.getRepsAtMaxWeight(),
+                    candidate.getMaxReps(), candidate.getWeightAtMaxReps(),
+                    candidate.getEstimatedOneRepMax(), candidate.getLongestDuration()});
+        }
+        jdbcTemplate.batchUpdate(MERGE_SQL, batchArgs);
+    }
+
+    /**
+     * Takes the user's lock exclusively until the transaction ends
+     * Must come before any shared lock on the user in the same transaction: two transactions
+     * upgrading from shared to exclusive would deadlock.
+     */
+    public void lockUser(Long userId) {
+        jdbcTemplate.query(LOCK_USER_SQL, resultSet -> {}, userId);
+    }
+
+    /**
+     * Recomputes a user's records for the given exercises from history, e.g. after exercises were deleted
+     * The caller must hold the user's exclusive lock, see lockUser.
+     */
+    public void rebuildExercises(Long userId, Collection<String> exerciseNames) {
+        for (String exerciseName : exerciseNames) {
+            jdbcTemplate.update("DELETE FROM personal_records WHERE user_id = ? AND exercise_name = ?",
+                    userId, exerciseName);
+            jdbcTemplate.update(REBUILD_EXERCISE_SQL, userId, exerciseName);
+        }
+    }
+
+    /**
+     * Recomputes the records of users with fromUserId <= id < toUserId from history
+     * Must run in a transaction; blocks writes for those users until it commits.
+     * Only the users locked here are rebuilt, so one created meanwhile keeps its merged records.
+     * @return Record rows written
+     */
+    public int rebuildUserRange(long fromUserId, long toUserId) {
+        List<Long> userIds = jdbcTemplate.query(LOCK_USER_RANGE_SQL,
+                (resultSet, rowNum) -> resultSet.getLong("id"), fromUserId, toUserId);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = userIds.toArray(new Long[0]);
+        jdbcTemplate.update("DELETE FROM personal_records WHERE user_id = ANY (?)", (Object) ids);
+        return jdbcTemplate.update(REBUILD_USERS_SQL, (Object) ids);
+    }
+}
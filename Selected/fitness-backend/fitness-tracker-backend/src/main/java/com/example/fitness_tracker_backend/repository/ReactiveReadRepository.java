@@ -0,0 +1,138 @@
+package com.example.fitness_tracker_backend.repository;
+
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * R2DBC reads for the reactive API, mapped straight to the DTO shapes the JPA endpoints return
+ * Rows are fetched in chunks as the subscriber requests them, so a slow client slows the query
+ * instead of buffering the whole history in memory
+ */
+@Repository
+public class ReactiveReadRepository {
+
+    private static final int FETCH_SIZE = 256;
+
+    // One row per exercise, workouts without exercises once; rows of a workout arrive together
+    private static final String WORKOUTS_WITH_EXERCISES_BY_USER = "SELECT w.id, w.version, w.name, w.description, "
+            + "w.start_time, w.end_time, w.duration, w.type, w.calories_burned, w.user_id, "
+            + "e.id AS exercise_id, e.name AS exercise_name, e.description AS exercise_description, "
+            + "e.category AS exercise_category, e.sets, e.reps, e.weight, "
+            + "e.duration AS exercise_duration, e.rest_time "
+            + "FROM workouts w LEFT JOIN exercises e ON e.workout_id = w.id "
+            + "WHERE w.user_id = :userId "
+            + "ORDER BY w.start_time DESC, w.id DESC, e.id";
+
+    private static final String GOALS_BY_USER = "SELECT id, version, title, description, target_date, start_date, "
+            + "status, category, target_value, unit, current_value, user_id "
+            + "FROM goals WHERE user_id = :userId ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @return The user's workouts, newest first, each with its exercises
+     */
+    public Flux<WorkoutDTO> streamWorkoutsWithExercisesByUserId(Long userId) {
+        return databaseClient.sql(WORKOUTS_WITH_EXERCISES_BY_USER)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("userId", userId)
+                .map(row -> new WorkoutRow(toWorkout(row), toExercise(row)))
+                .all()
+                .bufferUntilChanged(row -> row.workout().getId())
+                .map(ReactiveReadRepository::assemble);
+    }
+
+    /**
+     * @param status Only goals in this status, or all goals if null
+     * @return The user's goals in id order
+     */
+    public Flux<GoalDTO> streamGoalsByUserId(Long userId, String status) {
+        DatabaseClient.GenericExecuteSpec spec = status == null
+                ? databaseClient.sql(GOALS_BY_USER + "ORDER BY id")
+                : databaseClient.sql(GOALS_BY_USER + "AND status = :status ORDER BY id").bind("status", status);
+        return spec.filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("userId", userId)
+                .map(ReactiveReadRepository::toGoal)
+                .all();
+    }
+
+    private static WorkoutDTO assemble(List<WorkoutRow> rows) {
+        WorkoutDTO workout = rows.get(0).workout();
+        List<ExerciseDTO> exercises = new ArrayList<>(rows.size());
+        for (WorkoutRow row : rows) {
+            if (row.exercise() != null) {
+                exercises.add(row.exercise());
+            }
+        }
+        workout.setExercises(exercises);
+        return workout;
+    }
+
+    private static WorkoutDTO toWorkout(Readable row) {
+        WorkoutDTO dto = new WorkoutDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setVersion(row.get("version", Long.class));
+        dto.setName(row.get("name", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setStartTime(row.get("start_time", LocalDateTime.class));
+        dto.setEndTime(row.get("end_time", LocalDateTime.class));
+        dto.setDuration(row.get("duration", Integer.class));
+        dto.setType(row.get("type", String.class));
+        dto.setCaloriesBurned(row.get("calories_burned", Integer.class));
+        dto.setUserId(row.get("user_id", Long.class));
+        return dto;
+    }
+
+    private static ExerciseDTO toExercise(Readable row) {
+        Long id = row.get("exercise_id", Long.class);
+        if (id == null) {
+            return null;
+        }
+
+        ExerciseDTO dto = new ExerciseDTO();
+        dto.setId(id);
+        dto.setName(row.get("exercise_name", String.class));
+        dto.setDescription(row.get("exercise_description", String.class));
+        dto.setCategory(row.get("exercise_category", String.class));
+        dto.setSets(row.get("sets", Integer.class));
+        dto.setReps(row.get("reps", Integer.class));
+        dto.setWeight(row.get("weight", Double.class));
+        dto.setDuration(row.get("exercise_duration", Integer.class));
+        dto.setRestTime(row.get("rest_time", Integer.class));
+        dto.setWorkoutId(row.get("id", Long.class));
+        return dto;
+    }
+
+    private static GoalDTO toGoal(Readable row) {
+        GoalDTO dto = new GoalDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setVersion(row.get("version", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setTargetDate(row.get("target_date", LocalDate.class));
+        dto.setStartDate(row.get("start_date", LocalDate.class));
+        dto.setStatus(row.get("status", String.class));
+        dto.setCategory(row.get("category", String.class));
+        dto.setTargetValue(row.get("target_value", Double.class));
+        dto.setUnit(row.get("unit", String.class));
+        dto.setCurrentValue(row.get("current_value", Double.class));
+        dto.setUserId(row.get("user_id", Long.class));
+        return dto;
+    }
+
+    private record WorkoutRow(WorkoutDTO workout, ExerciseDTO exercise) {}
+}
@@ -0,0 +1,127 @@
+package com.example.fitness_tracker_backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC access to the user_training_load state and the daily loads it is built from
+ * Each EWMA is stored as of the user's last training day. Because it is linear in the daily loads,
+ * adding or removing one day's load is a single-row update whatever day it falls on:
+ * later days scale the state forward, earlier days are added scaled down by their age.
+ */
+@Repository
+public class TrainingLoadRepository {
+
+    // Past this many days a day's weight is negligible; keeps POWER clear of underflow
+    private static final int MAX_DECAY_DAYS = 2000;
+
+    // Parameters: user, day, acute and chronic contribution of the day's load, then each retention twice
+    private static final String ADD_LOAD_SQL = "INSERT INTO user_training_load AS t "
+            + "(user_id, last_day, acute, chronic) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT (user_id) DO UPDATE SET "
+            + "acute = " + addDecayed("acute") + ", "
+            + "chronic = " + addDecayed("chronic") + ", "
+            + "last_day = GREATEST(t.last_day, EXCLUDED.last_day)";
+
+    private static final String DAILY_LOAD_SQL = "SELECT user_id, day, "
+            + "SUM(? * total_duration + ? * total_calories_burned + ? * total_volume) AS load "
+            + "FROM user_daily_stats WHERE %s GROUP BY user_id, day";
+
+    // Closed form of the EWMA over the rebuilt daily rollup of a set of users
+    private static final String REBUILD_USERS_SQL = "INSERT INTO user_training_load "
+            + "(user_id, last_day, acute, chronic) "
+            + "SELECT d.user_id, l.last_day, "
+            + "SUM(d.load * ? * POWER(?, LEAST(l.last_day - d.day, " + MAX_DECAY_DAYS + "))), "
+            + "SUM(d.load * ? * POWER(?, LEAST(l.last_day - d.day, " + MAX_DECAY_DAYS + "))) "
+            + "FROM (" + String.format(DAILY_LOAD_SQL, "user_id = ANY (?)") + ") d "
+            + "JOIN (SELECT user_id, MAX(day) AS last_day FROM user_daily_stats "
+            + "WHERE user_id = ANY (?) GROUP BY user_id) l ON l.user_id = d.user_id "
+            + "GROUP BY d.user_id, l.last_day";
+
+    private static final String DAILY_LOADS_FOR_USER_SQL =
+            String.format(DAILY_LOAD_SQL, "user_id = ? AND day >= ? AND day <= ?") + " ORDER BY day";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrainingLoadRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stored state of one user: one primary key lookup
+     */
+    public Optional<TrainingLoadState> findByUserId(Long userId) {
+        return jdbcTemplate.query("SELECT last_day, acute, chronic FROM user_training_load WHERE user_id = ?",
+                (resultSet, rowNum) -> new TrainingLoadState(resultSet.getObject("last_day", LocalDate.class),
+                        resultSet.getDouble("acute"), resultSet.getDouble("chronic")), userId)
+                .stream().findFirst();
+    }
+
+    /**
+     * Adds each day's load, negative to remove it, to the user's state in one JDBC batch
+     * @param acuteSmoothing Weight of a day's load in the acute average; 1 - acuteSmoothing is the daily retention
+     * @param chronicSmoothing Same for the chronic average
+     */
+    public void addLoads(Long userId, Map<LocalDate, Double> loadByDay,
+                         double acuteSmoothing, double chronicSmoothing) {
+        if (loadByDay.isEmpty()) {
+            return;
+        }
+
+        double acuteRetention = 1 - acuteSmoothing;
+        double chronicRetention = 1 - chronicSmoothing;
+        List<Object[]> batchArgs = new ArrayList<>(loadByDay.size());
+        loadByDay.forEach((day, load) -> batchArgs.add(new Object[] {userId, Date.valueOf(day),
+                acuteSmoothing * load, chronicSmoothing * load,
+                acuteRetention, acuteRetention, chronicRetention, chronicRetention}));
+        jdbcTemplate.batchUpdate(ADD_LOAD_SQL, batchArgs);
+    }
+
+    /**
+     * Daily loads of one user between from and to (both inclusive), read from the daily rollup
+     * @return Load per day that has at least one workout, in day order
+     */
+    public Map<LocalDate, Double> findDailyLoads(Long userId, LocalDate from, LocalDate to,
+                                                 double durationWeight, double caloriesWeight, double volumeWeight) {
+        Map<LocalDate, Double> loadByDay = new LinkedHashMap<>();
+        jdbcTemplate.query(DAILY_LOADS_FOR_USER_SQL, resultSet -> {
+            loadByDay.put(resultSet.getObject("day", LocalDate.class), resultSet.getDouble("load"));
+        }, durationWeight, caloriesWeight, volumeWeight, userId, Date.valueOf(from), Date.valueOf(to));
+        return loadByDay;
+    }
+
+    /**
+     * Recomputes the state of the given users from their daily rollup
+     * Must run in the transaction that rebuilt that rollup, under its user locks
+     * @return State rows written
+     */
+    public int rebuildUsers(List<Long> userIds,
+                            double durationWeight, double caloriesWeight, double volumeWeight,
+                            double acuteSmoothing, double chronicSmoothing) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = userIds.toArray(new Long[0]);
+        jdbcTemplate.update("DELETE FROM user_training_load WHERE user_id = ANY (?)", (Object) ids);
+        return jdbcTemplate.update(REBUILD_USERS_SQL,
+                acuteSmoothing, 1 - acuteSmoothing, chronicSmoothing, 1 - chronicSmoothing,
+                durationWeight, caloriesWeight, volumeWeight, ids, ids);
+    }
+
+    // A later day scales the stored state forward; an earlier day is added scaled down by its age
+    private static String addDecayed(String column) {
+        return "CASE WHEN EXCLUDED.last_day >= t.last_day "
+                + "THEN t." + column + " * POWER(?, LEAST(EXCLUDED.last_day - t.last_day, " + MAX_DECAY_DAYS + ")) "
+                + "+ EXCLUDED." + column + " "
+                + "ELSE t." + column + " + EXCLUDED." + column
+                + " * POWER(?, LEAST(t.last_day - EXCLUDED.last_day, " + MAX_DECAY_DAYS + ")) END";
+    }
+}
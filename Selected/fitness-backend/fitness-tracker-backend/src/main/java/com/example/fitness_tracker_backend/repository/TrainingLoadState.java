@@ -0,0 +1,8 @@
+package com.example.fitness_tracker_backend.repository;
+
+import java.time.LocalDate;
+
+/**
+ * A user's acute and chronic training load as of lastDay
+ */
+public record TrainingLoadState(LocalDate lastDay, double acute, double chronic) {}
@@ -0,0 +1,11 @@
+package com.example.fitness_tracker_backend.repository;
+
+/**
+ * Projection over users.version and user_change_stamps.change_counter, which
+ * change whenever a user's profile, workouts, exercises or goals change
+ * Used to answer conditional GETs without loading entities
+ */
+public interface UserChangeStampView {
+    Long getVersion();
+    Long getChangeCounter();
+}
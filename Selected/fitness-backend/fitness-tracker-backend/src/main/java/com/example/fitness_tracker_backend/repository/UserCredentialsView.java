@@ -0,0 +1,14 @@
+package com.example.fitness_tracker_backend.repository;
+
+/**
+ * Closed projection over the users table used during login
+ * Selects only the credential and session columns, never the workout or goal collections
+ */
+public interface UserCredentialsView {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    String getPassword();
+    String getFirstName();
+    String getLastName();
+}
@@ -0,0 +1,147 @@
+package com.example.fitness_tracker_backend.repository;
+
+import com.example.fitness_tracker_backend.dto.WorkoutStatsBucketDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access to the user_daily_stats rollup
+ * Runs on the connection of the surrounding JPA transaction.
+ * Incremental writes hold a shared advisory lock on the user and a rebuild holds it exclusively,
+ * so a rebuild never interleaves with in-flight deltas for the same user. A rebuild only touches
+ * the users it locked: one created after the lock was taken keeps its incrementally written rows.
+ */
+@Repository
+public class UserDailyStatsRepository {
+
+    public static final String UNSPECIFIED_TYPE = "unspecified";
+
+    // Adds the delta to the row, creating it on first use; the CTE takes the user lock first
+    private static final String APPLY_DELTA_SQL = "WITH user_lock AS (SELECT pg_advisory_xact_lock_shared(?)) "
+            + "INSERT INTO user_daily_stats "
+            + "(user_id, day, type, workout_count, total_duration, total_calories_burned, total_volume) "
+            + "SELECT ?, ?, ?, ?, ?, ?, ? FROM user_lock "
+            + "ON CONFLICT (user_id, day, type) DO UPDATE SET "
+            + "workout_count = user_daily_stats.workout_count + EXCLUDED.workout_count, "
+            + "total_duration = user_daily_stats.total_duration + EXCLUDED.total_duration, "
+            + "total_calories_burned = user_daily_stats.total_calories_burned + EXCLUDED.total_calories_burned, "
+            + "total_volume = user_daily_stats.total_volume + EXCLUDED.total_volume";
+
+    private static final String DELETE_EMPTY_SQL = "DELETE FROM user_daily_stats "
+            + "WHERE user_id = ? AND day = ? AND type = ? AND workout_count <= 0";
+
+    // Locks in id order and returns the ids that were locked
+    private static final String LOCK_USER_RANGE_SQL = "SELECT id, pg_advisory_xact_lock(id) FROM users "
+            + "WHERE id >= ? AND id < ? ORDER BY id";
+
+    private static final String DELETE_USERS_SQL = "DELETE FROM user_daily_stats WHERE user_id = ANY (?)";
+
+    // Volume is summed per workout through idx_exercises_workout
+    private static final String REBUILD_USERS_SQL = "INSERT INTO user_daily_stats "
+            + "(user_id, day, type, workout_count, total_duration, total_calories_burned, total_volume) "
+            + "SELECT w.user_id, CAST(w.start_time AS date), COALESCE(w.type, '" + UNSPECIFIED_TYPE + "'), "
+            + "COUNT(*), COALESCE(SUM(w.duration), 0), COALESCE(SUM(w.calories_burned), 0), "
+            + "COALESCE(SUM(ev.volume), 0) "
+            + "FROM workouts w LEFT JOIN LATERAL (SELECT SUM(COALESCE(e.sets, 1) * e.reps * e.weight) AS volume "
+            + "FROM exercises e WHERE e.workout_id = w.id) ev ON true "
+            + "WHERE w.user_id = ANY (?) "
+            + "GROUP BY 1, 2, 3";
+
+    // One primary key range scan; rows arrive grouped by bucket and are folded into one DTO each
+    private static final String AGGREGATE_BY_BUCKET_SQL = "SELECT "
+            + "CAST(date_trunc(?, day) AS date) AS period_start, type, "
+            + "SUM(workout_count) AS workout_count, "
+            + "SUM(total_duration) AS total_duration, "
+            + "SUM(total_calories_burned) AS total_calories_burned "
+            + "FROM user_daily_stats "
+            + "WHERE user_id = ? AND day >= ? AND day <= ? "
+            + "GROUP BY 1, 2 "
+            + "ORDER BY 1, 2";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDailyStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Applies the deltas in one JDBC batch, then drops rows no workout is left in
+     */
+    public void applyDeltas(List<DailyStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        List<Object[]> emptiedArgs = new ArrayList<>();
+        for (DailyStatsDelta delta : deltas) {
+            Date day = Date.valueOf(delta.day());
+            batchArgs.add(new Object[] {delta.userId(), delta.userId(), day, delta.type(),
+                    delta.workoutCount(), delta.totalDuration(), delta.totalCaloriesBurned(),
+                    delta.totalVolume()});
+            if (delta.workoutCount() < 0) {
+                emptiedArgs.add(new Object[] {delta.userId(), day, delta.type()});
+            }
+        }
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, batchArgs);
+        if (!emptiedArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, emptiedArgs);
+        }
+    }
+
+    /**
+     * Takes the exclusive lock of every existing user with fromUserId <= id < toUserId
+     * Must run in a transaction; blocks writes for those users until it commits
+     * @return Locked user ids, ascending
+     */
+    public List<Long> lockUserRange(long fromUserId, long toUserId) {
+        return jdbcTemplate.query(LOCK_USER_RANGE_SQL, (resultSet, rowNum) -> resultSet.getLong("id"),
+                fromUserId, toUserId);
+    }
+
+    /**
+     * Recomputes the rollup of the given users from their workouts
+     * The caller must hold their exclusive locks, see lockUserRange.
+     * @return Rollup rows written
+     */
+    public int rebuildUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = userIds.toArray(new Long[0]);
+        jdbcTemplate.update(DELETE_USERS_SQL, (Object) ids);
+        return jdbcTemplate.update(REBUILD_USERS_SQL, (Object) ids);
+    }
+
+    /**
+     * Groups a user's daily rows between from and to (both inclusive) into date_trunc buckets
+     * @param bucket date_trunc field: day, week (starting Monday) or month
+     * @return Buckets holding at least one workout, oldest first
+     */
+    public List<WorkoutStatsBucketDTO> aggregateByBucket(Long userId, String bucket, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(AGGREGATE_BY_BUCKET_SQL, resultSet -> {
+            List<WorkoutStatsBucketDTO> buckets = new ArrayList<>();
+            WorkoutStatsBucketDTO current = null;
+            while (resultSet.next()) {
+                LocalDate periodStart = resultSet.getObject("period_start", LocalDate.class);
+                if (current == null || !current.getPeriodStart().equals(periodStart)) {
+                    current = new WorkoutStatsBucketDTO(periodStart);
+                    buckets.add(current);
+                }
+
+                long count = resultSet.getLong("workout_count");
+                current.setWorkoutCount(current.getWorkoutCount() + count);
+                current.setTotalDuration(current.getTotalDuration() + resultSet.getLong("total_duration"));
+                current.setTotalCaloriesBurned(
+                        current.getTotalCaloriesBurned() + resultSet.getLong("total_calories_burned"));
+                current.getCountsByType().merge(resultSet.getString("type"), count, Long::sum);
+            }
+            return buckets;
+        }, bucket, userId, Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.fitness_tracker_backend.repository;
+
+/**
+ * Projection over the lowest and highest user id, both null when there are no users
+ * Used to split per-user batch jobs into id ranges
+ */
+public interface UserIdRangeView {
+    Long getMinId();
+    Long getMaxId();
+}
@@ -1,15 +1,33 @@
 package com.example.fitness_tracker_backend.repository;
 
 import com.example.fitness_tracker_backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    Optional<UserCredentialsView> findCredentialsByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // Keyset pagination seeking on id
+    List<UserSummaryView> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Conditional GET check: two primary key lookups, no entities loaded; no stamp row means no activity yet
+    @Query(value = "SELECT u.version AS version, COALESCE(s.change_counter, 0) AS changeCounter "
+            + "FROM users u LEFT JOIN user_change_stamps s ON s.user_id = u.id WHERE u.id = :id",
+            nativeQuery = true)
+    Optional<UserChangeStampView> findChangeStampById(@Param("id") Long id);
+
+    // Bounds for chunked batch jobs over all users; answered from the primary key index
+    @Query("SELECT MIN(u.id) AS minId, MAX(u.id) AS maxId FROM User u")
+    UserIdRangeView findIdRange();
+}
@@ -0,0 +1,20 @@
+package com.example.fitness_tracker_backend.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Closed projection over the users table with the profile columns only
+ * Used by listings that do not need a user's workout or goal history
+ */
+public interface UserSummaryView {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    String getFirstName();
+    String getLastName();
+    LocalDate getDateOfBirth();
+    String getGender();
+    Double getHeight();
+    Double getWeight();
+    String getFitnessLevel();
+}
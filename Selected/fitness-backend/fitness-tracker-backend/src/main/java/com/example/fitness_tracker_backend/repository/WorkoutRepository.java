@@ -1,15 +1,69 @@
 package com.example.fitness_tracker_backend.repository;
 
 import com.example.fitness_tracker_backend.model.Workout;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     List<Workout> findByUserId(Long userId);
     List<Workout> findByUserIdAndStartTimeBetween(Long userId, LocalDateTime start, LocalDateTime end);
     List<Workout> findByUserIdAndType(Long userId, String type);
-}
\ No newline at end of file
+
+    // Single workout with its exercises in one fetch-joined query
+    @EntityGraph("Workout.exercises")
+    Optional<Workout> findWithExercisesById(Long id);
+
+    // A chunk of workouts with their exercises in one fetch-joined IN query, for the streamed export
+    @EntityGraph("Workout.exercises")
+    List<Workout> findWithExercisesByIdIn(Collection<Long> ids);
+
+    // Keyset pagination, newest first, seeking on (start_time, id)
+    List<Workout> findAllByOrderByStartTimeDescIdDesc(Pageable pageable);
+    List<Workout> findByUserIdOrderByStartTimeDescIdDesc(Long userId, Pageable pageable);
+
+    @Query("SELECT w FROM Workout w "
+            + "WHERE w.startTime < :startTime OR (w.startTime = :startTime AND w.id < :id) "
+            + "ORDER BY w.startTime DESC, w.id DESC")
+    List<Workout> findPageAfter(@Param("startTime") LocalDateTime startTime,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId "
+            + "AND (w.startTime < :startTime OR (w.startTime = :startTime AND w.id < :id)) "
+            + "ORDER BY w.startTime DESC, w.id DESC")
+    List<Workout> findPageByUserIdAfter(@Param("userId") Long userId,
+                                        @Param("startTime") LocalDateTime startTime,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // Dashboard totals over a range of the (user_id, start_time, id) index; one row whatever the history length
+    @Query("SELECT COUNT(w) AS workoutCount, "
+            + "COALESCE(SUM(w.duration), 0) AS totalDuration, "
+            + "COALESCE(SUM(w.caloriesBurned), 0) AS totalCaloriesBurned "
+            + "FROM Workout w WHERE w.user.id = :userId AND w.startTime >= :from AND w.startTime < :to")
+    WorkoutTotalsView sumByUserIdAndStartTimeRange(@Param("userId") Long userId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+
+    // Server-side cursor over a user's full history, oldest first; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId ORDER BY w.startTime ASC, w.id ASC")
+    Stream<Workout> streamByUserId(@Param("userId") Long userId);
+}
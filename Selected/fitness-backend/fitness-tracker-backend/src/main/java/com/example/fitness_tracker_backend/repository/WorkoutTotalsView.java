@@ -0,0 +1,11 @@
+package com.example.fitness_tracker_backend.repository;
+
+/**
+ * Aggregate over a user's workouts in a time range, computed by the database
+ * Sums are 0 when no workout falls in the range or none records the value
+ */
+public interface WorkoutTotalsView {
+    Long getWorkoutCount();
+    Long getTotalDuration();
+    Long getTotalCaloriesBurned();
+}
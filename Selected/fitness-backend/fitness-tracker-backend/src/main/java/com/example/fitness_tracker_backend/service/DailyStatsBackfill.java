@@ -0,0 +1,74 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.repository.UserDailyStatsRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rebuilds the user_daily_stats rollup from the workouts table, and the training load from the rollup
+ * Users are split into id ranges rebuilt in parallel, each in its own short transaction.
+ * Runs at startup when app.rollup.rebuild-on-startup is set, e.g. after a bulk import.
+ */
+@Service
+public class DailyStatsBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyStatsBackfill.class);
+
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final UserRepository userRepository;
+    private final TrainingLoadTracker trainingLoadTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean rebuildOnStartup;
+
+    public DailyStatsBackfill(UserDailyStatsRepository userDailyStatsRepository,
+                              UserRepository userRepository,
+                              TrainingLoadTracker trainingLoadTracker,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.rollup.backfill-chunk-size:200}") int chunkSize,
+                              @Value("${app.rollup.backfill-parallelism:4}") int parallelism,
+                              @Value("${app.rollup.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.userDailyStatsRepository = userDailyStatsRepository;
+        this.userRepository = userRepository;
+        this.trainingLoadTracker = trainingLoadTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes every user's rollup
+     * @return Rollup rows written
+     */
+    public long rebuild() {
+        long started = System.nanoTime();
+        long rows = UserRangeBatch.run(userRepository.findIdRange(), chunkSize, parallelism,
+                transactionTemplate, (fromUserId, toUserId) -> {
+                    // Users created after the lock keep their incremental rows and are left alone
+                    List<Long> userIds = userDailyStatsRepository.lockUserRange(fromUserId, toUserId);
+                    int written = userDailyStatsRepository.rebuildUsers(userIds);
+                    trainingLoadTracker.rebuildUsers(userIds);
+                    return written;
+                });
+        log.info("Rebuilt {} daily stats rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.DashboardDTO;
+
+import java.util.Optional;
+
+/**
+ * Service interface for the user dashboard
+ * Part of the Business Logic Layer
+ */
+public interface DashboardService {
+
+    /**
+     * Get a user's dashboard
+     * @param userId User ID
+     * @param workoutLimit Number of recent workouts, or null for the configured default
+     * @param goalLimit Number of active goals, or null for the configured default
+     * @return Optional DashboardDTO, empty if the user does not exist
+     */
+    Optional<DashboardDTO> getDashboard(Long userId, Integer workoutLimit, Integer goalLimit);
+}
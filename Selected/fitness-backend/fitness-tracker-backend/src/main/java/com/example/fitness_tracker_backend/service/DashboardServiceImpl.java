@@ -0,0 +1,86 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.DashboardDTO;
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutTotalsDTO;
+import com.example.fitness_tracker_backend.mapper.GoalMapper;
+import com.example.fitness_tracker_backend.mapper.WorkoutMapper;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutTotalsView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of DashboardService interface
+ * Every part is one bounded, indexed query, so the cost does not grow with the user's history
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+
+    private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final GoalRepository goalRepository;
+    private final WorkoutMapper workoutMapper;
+    private final GoalMapper goalMapper;
+    private final int defaultWorkoutLimit;
+    private final int defaultGoalLimit;
+    private final int maxItems;
+
+    public DashboardServiceImpl(UserRepository userRepository,
+                                WorkoutRepository workoutRepository,
+                                GoalRepository goalRepository,
+                                WorkoutMapper workoutMapper,
+                                GoalMapper goalMapper,
+                                @Value("${app.dashboard.recent-workouts:3}") int defaultWorkoutLimit,
+                                @Value("${app.dashboard.active-goals:3}") int defaultGoalLimit,
+                                @Value("${app.dashboard.max-items:20}") int maxItems) {
+        this.userRepository = userRepository;
+        this.workoutRepository = workoutRepository;
+        this.goalRepository = goalRepository;
+        this.workoutMapper = workoutMapper;
+        this.goalMapper = goalMapper;
+        this.defaultWorkoutLimit = defaultWorkoutLimit;
+        this.defaultGoalLimit = defaultGoalLimit;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public Optional<DashboardDTO> getDashboard(Long userId, Integer workoutLimit, Integer goalLimit) {
+        if (!userRepository.existsById(userId)) {
+            return Optional.empty();
+        }
+
+        List<WorkoutDTO> recentWorkouts = workoutRepository.findByUserIdOrderByStartTimeDescIdDesc(
+                        userId, PageRequest.of(0, KeysetCursor.pageSize(workoutLimit, defaultWorkoutLimit, maxItems)))
+                .stream()
+                .map(workoutMapper::toSimpleDTO)
+                .collect(Collectors.toList());
+
+        List<GoalDTO> activeGoals = goalRepository.findActiveByUserIdOrderByTargetDate(
+                        userId, PageRequest.of(0, KeysetCursor.pageSize(goalLimit, defaultGoalLimit, maxItems)))
+                .stream()
+                .map(goalMapper::toDTO)
+                .collect(Collectors.toList());
+
+        LocalDate weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        WorkoutTotalsView totals = workoutRepository.sumByUserIdAndStartTimeRange(
+                userId, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay());
+        WorkoutTotalsDTO weeklyTotals = new WorkoutTotalsDTO(weekStart,
+                totals.getWorkoutCount(), totals.getTotalDuration(), totals.getTotalCaloriesBurned());
+
+        return Optional.of(new DashboardDTO(userId, recentWorkouts, activeGoals, weeklyTotals));
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.GoalProgressDTO;
+import com.example.fitness_tracker_backend.model.Exercise;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a user's active goals against newly saved workouts
+ * Part of the Business Logic Layer; runs inside the caller's transaction
+ * so all goal updates are flushed together as one batch
+ */
+@Service
+@Transactional
+public class GoalProgressEngine {
+
+    private static final String ACTIVE = "active";
+    private static final String COMPLETED = "completed";
+    private static final String CARDIO = "cardio";
+
+    // Each cardio session moves a cardio goal by a fixed share of its target
+    private static final double CARDIO_SESSION_INCREMENT = 70;
+
+    private static final Pattern WEIGHT_THEN_REPS = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*(?:lb|lbs|pounds?)\\s*(?:x|\\*)\\s*(\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern REPS_THEN_WEIGHT = Pattern.compile(
+            "(\\d+)\\s*(?:reps?)\\s*@?\\s*(\\d+(?:\\.\\d+)?)\\s*(?:lb|lbs|pounds?)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern REPS_ONLY = Pattern.compile(
+            "(\\d+)\\s*(?:reps?)", Pattern.CASE_INSENSITIVE);
+
+    private final GoalRepository goalRepository;
+
+    public GoalProgressEngine(GoalRepository goalRepository) {
+        this.goalRepository = goalRepository;
+    }
+
+    /**
+     * Applies every exercise of the given workouts to the owner's active goals
+     * @param userId Owner of the workouts
+     * @param workouts Newly saved workouts, in the order they were performed
+     * @return Progress for each goal that matched at least one exercise
+     */
+    public List<GoalProgressDTO> evaluate(Long userId, List<Workout> workouts) {
+        if (userId == null) {
+            return List.of();
+        }
+
+        // One query for the owner's active goals; updates are applied by dirty checking
+        List<Goal> activeGoals = goalRepository.findByUserIdAndStatus(userId, ACTIVE);
+        if (activeGoals.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, GoalProgressDTO> progressByGoal = new LinkedHashMap<>();
+        for (Workout workout : workouts) {
+            if (workout.getExercises() == null) {
+                continue;
+            }
+            for (Exercise exercise : workout.getExercises()) {
+                for (Goal goal : activeGoals) {
+                    if (matches(goal, exercise)) {
+                        applyExercise(goal, exercise, progressByGoal);
+                    }
+                }
+            }
+        }
+
+        for (Goal goal : activeGoals) {
+            GoalProgressDTO progress = progressByGoal.get(goal.getId());
+            if (progress != null) {
+                goal.setCurrentValue(progress.getCurrentValue());
+                goal.setStatus(progress.getStatus());
+            }
+        }
+
+        return new ArrayList<>(progressByGoal.values());
+    }
+
+    private boolean matches(Goal goal, Exercise exercise) {
+        if (goal.getTitle() == null || exercise.getName() == null) {
+            return false;
+        }
+        String goalTitle = goal.getTitle().toLowerCase();
+        String exerciseName = exercise.getName().toLowerCase();
+        String goalCategory = goal.getCategory() != null ? goal.getCategory().toLowerCase() : "";
+        boolean sameCategory = !goalCategory.isEmpty() && goalCategory.equals(exercise.getCategory());
+
+        return goalTitle.contains(exerciseName) || exerciseName.contains(goalTitle) || sameCategory;
+    }
+
+    private void applyExercise(Goal goal, Exercise exercise, Map<Long, GoalProgressDTO> progressByGoal) {
+        String goalCategory = goal.getCategory() != null ? goal.getCategory().toLowerCase() : "";
+        if (CARDIO.equals(goalCategory) && CARDIO.equals(exercise.getCategory())) {
+            GoalProgressDTO progress = progressFor(goal, progressByGoal);
+            double previousBest = progress.getCurrentValue();
+            double newValue = Math.max(previousBest, clampPercentage(previousBest + CARDIO_SESSION_INCREMENT));
+            record(progress, newValue);
+
+            if (newValue > previousBest) {
+                String feedback = newValue >= 100 ? " (achieved!)" : "";
+                progress.getSummaries().add(String.format("%s: Cardio session boost +%d%% — now %d%%%s",
+                        goal.getTitle(), Math.round(newValue - previousBest), Math.round(newValue), feedback));
+            }
+            return;
+        }
+
+        double[] targets = parseStrengthTargets(goal.getDescription());
+        double targetWeight = targets[0];
+        double targetReps = targets[1];
+        if (targetReps <= 0 && targetWeight <= 0) {
+            // No measurable target in the goal description
+            return;
+        }
+
+        int bestReps = exercise.getReps() != null && exercise.getReps() > 0 ? exercise.getReps() : 0;
+        double bestWeight = exercise.getWeight() != null && exercise.getWeight() > 0 ? exercise.getWeight() : 0;
+
+        double repsRatio = targetReps > 0 && bestReps > 0
+                ? Math.min(1, clampPercentage(bestReps / targetReps * 100) / 100)
+                : 0;
+        double weightRatio = 1;
+        if (targetWeight > 0) {
+            weightRatio = bestWeight > 0 ? Math.min(1, clampPercentage(bestWeight / targetWeight * 100) / 100) : 0;
+        }
+        double limitingRatio = targetReps > 0 && targetWeight > 0
+                ? Math.min(repsRatio, weightRatio)
+                : targetReps > 0 ? repsRatio : weightRatio;
+
+        GoalProgressDTO progress = progressFor(goal, progressByGoal);
+        double previousBest = progress.getCurrentValue();
+        double newValue = Math.max(previousBest, clampPercentage(limitingRatio * 100));
+        record(progress, newValue);
+
+        if (newValue > previousBest) {
+            String weightDescriptor = bestWeight > 0
+                    ? bestReps + "-rep @ " + formatNumber(bestWeight) + " lb"
+                    : bestReps + " reps (bodyweight)";
+
+            String feedback = "";
+            if (newValue < 100) {
+                if (targetReps > 0 && limitingRatio == repsRatio && repsRatio < 1) {
+                    feedback = " (add reps)";
+                } else if (targetWeight > 0 && limitingRatio == weightRatio && weightRatio < 1) {
+                    feedback = " (add weight)";
+                }
+            }
+
+            progress.getSummaries().add(String.format("%s: best %s — %d%% of goal%s",
+                    goal.getTitle(), weightDescriptor, Math.round(newValue), feedback));
+        }
+    }
+
+    private GoalProgressDTO progressFor(Goal goal, Map<Long, GoalProgressDTO> progressByGoal) {
+        return progressByGoal.computeIfAbsent(goal.getId(), id -> {
+            double current = goal.getCurrentValue() != null ? clampPercentage(goal.getCurrentValue()) : 0;
+            GoalProgressDTO progress = new GoalProgressDTO(id, goal.getTitle(), current);
+            progress.setStatus(goal.getStatus());
+            progress.setSummaries(new ArrayList<>());
+            return progress;
+        });
+    }
+
+    private void record(GoalProgressDTO progress, double newValue) {
+        progress.setCurrentValue(newValue);
+        if (newValue >= 100) {
+            progress.setStatus(COMPLETED);
+        }
+    }
+
+    /**
+     * Extracts {targetWeight, targetReps} from descriptions such as
+     * "135 lbs x 5", "5 reps @ 135 lbs" or "20 reps"
+     */
+    private double[] parseStrengthTargets(String description) {
+        double targetWeight = 0;
+        double targetReps = 0;
+        if (description == null) {
+            return new double[] {targetWeight, targetReps};
+        }
+
+        Matcher weightThenReps = WEIGHT_THEN_REPS.matcher(description);
+        if (weightThenReps.find()) {
+            targetWeight = Double.parseDouble(weightThenReps.group(1));
+            targetReps = Double.parseDouble(weightThenReps.group(2));
+        }
+
+        Matcher repsThenWeight = REPS_THEN_WEIGHT.matcher(description);
+        if (repsThenWeight.find()) {
+            if (targetReps == 0) {
+                targetReps = Double.parseDouble(repsThenWeight.group(1));
+            }
+            if (targetWeight == 0) {
+                targetWeight = Double.parseDouble(repsThenWeight.group(2));
+            }
+        }
+
+        if (targetReps == 0) {
+            Matcher repsOnly = REPS_ONLY.matcher(description);
+            if (repsOnly.find()) {
+                targetReps = Double.parseDouble(repsOnly.group(1));
+            }
+        }
+
+        return new double[] {targetWeight, targetReps};
+    }
+
+    private static double clampPercentage(double value) {
+        return Math.max(0, Math.min(100, value));
+    }
+
+    private static String formatNumber(double value) {
+        if (value == Math.rint(value)) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
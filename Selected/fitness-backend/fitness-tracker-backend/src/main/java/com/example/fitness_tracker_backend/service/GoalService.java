@@ -1,6 +1,9 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
 import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressResultDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressUpdateDTO;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,10 +14,12 @@ import java.util.Optional;
 public interface GoalService {
     
     /**
-     * Get all goals
-     * @return List of GoalDTOs
+     * Get one page of all goals
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size, or null for the configured default
+     * @return Page of GoalDTOs
      */
-    List<GoalDTO> getAllGoals();
+    CursorPageDTO<GoalDTO> getAllGoals(String cursor, Integer limit);
     
     /**
      * Get goal by ID
@@ -24,11 +29,13 @@ public interface GoalService {
     Optional<GoalDTO> getGoalById(Long id);
     
     /**
-     * Get goals by user ID
+     * Get one page of goals by user ID
      * @param userId User ID
-     * @return List of GoalDTOs
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size, or null for the configured default
+     * @return Page of GoalDTOs
      */
-    List<GoalDTO> getGoalsByUserId(Long userId);
+    CursorPageDTO<GoalDTO> getGoalsByUserId(Long userId, String cursor, Integer limit);
     
     /**
      * Create a new goal
@@ -40,8 +47,9 @@ public interface GoalService {
     /**
      * Update existing goal
      * @param id Goal ID
-     * @param goalDTO Updated goal data
+     * @param goalDTO Updated goal data; a non-null version must match the stored one
      * @return Updated GoalDTO
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the goal was changed concurrently
      */
     GoalDTO updateGoal(Long id, GoalDTO goalDTO);
     
@@ -52,11 +60,19 @@ public interface GoalService {
     void deleteGoal(Long id);
     
     /**
-     * Update goal progress
+     * Update goal progress atomically, keeping the highest value reported
+     * and completing the goal once its target is reached
      * @param id Goal ID
      * @param currentValue Current progress value
      * @return Updated GoalDTO
      */
     GoalDTO updateGoalProgress(Long id, Double currentValue);
+    
+    /**
+     * Update the progress of many goals in one transaction
+     * @param updates Goal IDs and progress values
+     * @return One result per entry in request order, holding the goal's resulting state or a not-found error
+     */
+    List<GoalProgressResultDTO> updateGoalProgressBatch(List<GoalProgressUpdateDTO> updates);
 }
 
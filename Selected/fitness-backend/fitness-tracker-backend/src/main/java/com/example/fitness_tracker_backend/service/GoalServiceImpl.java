@@ -1,16 +1,34 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
 import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressResultDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressUpdateDTO;
+import com.example.fitness_tracker_backend.exception.ResourceNotFoundException;
 import com.example.fitness_tracker_backend.mapper.GoalMapper;
 import com.example.fitness_tracker_backend.model.Goal;
-import com.example.fitness_tracker_backend.model.User;
 import com.example.fitness_tracker_backend.repository.GoalRepository;
 import com.example.fitness_tracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -21,24 +39,40 @@ import java.util.stream.Collectors;
 @Transactional
 public class GoalServiceImpl implements GoalService {
 
+    private static final String ACTIVE_TITLE_CONSTRAINT = "uk_goals_user_active_title";
+
     private final GoalRepository goalRepository;
     private final UserRepository userRepository;
     private final GoalMapper goalMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxProgressBatchSize;
 
     public GoalServiceImpl(GoalRepository goalRepository, 
                           UserRepository userRepository,
-                          GoalMapper goalMapper) {
+                          GoalMapper goalMapper,
+                          EntityManagerFactory entityManagerFactory,
+                          @Value("${app.pagination.default-size:20}") int defaultPageSize,
+                          @Value("${app.pagination.max-size:100}") int maxPageSize,
+                          @Value("${app.goals.progress-batch-max-size:500}") int maxProgressBatchSize) {
         this.goalRepository = goalRepository;
         this.userRepository = userRepository;
         this.goalMapper = goalMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxProgressBatchSize = maxProgressBatchSize;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<GoalDTO> getAllGoals() {
-        return goalRepository.findAll().stream()
-                .map(goalMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<GoalDTO> getAllGoals(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+        Long afterId = cursor == null || cursor.isBlank() ? 0L : KeysetCursor.decodeId(cursor);
+        // Fetch one extra row to detect whether another page exists
+        return toPage(goalRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, pageSize + 1)), pageSize);
     }
 
     @Override
@@ -50,10 +84,11 @@ public class GoalServiceImpl implements GoalService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<GoalDTO> getGoalsByUserId(Long userId) {
-        return goalRepository.findByUserId(userId).stream()
-                .map(goalMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<GoalDTO> getGoalsByUserId(Long userId, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+        Long afterId = cursor == null || cursor.isBlank() ? 0L : KeysetCursor.decodeId(cursor);
+        return toPage(goalRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                userId, afterId, PageRequest.of(0, pageSize + 1)), pageSize);
     }
 
     @Override
@@ -62,30 +97,20 @@ public class GoalServiceImpl implements GoalService {
         goalDTO.setTitle(sanitizedTitle);
 
         String requestedStatus = goalDTO.getStatus();
-        if (requestedStatus == null || requestedStatus.isBlank()) {
-            requestedStatus = "active";
-            goalDTO.setStatus(requestedStatus);
-        }
-
-        if (goalDTO.getUserId() != null
-                && sanitizedTitle != null && !sanitizedTitle.isEmpty()
-                && goalRepository.existsByUserIdAndStatusIgnoreCaseAndTitleIgnoreCase(
-                        goalDTO.getUserId(),
-                        "active",
-                        sanitizedTitle)) {
-            throw new IllegalStateException("An active goal for this exercise already exists.");
-        }
+        goalDTO.setStatus(requestedStatus == null || requestedStatus.isBlank()
+                ? "active"
+                : normalizeStatus(requestedStatus));
 
         Goal goal = goalMapper.toEntity(goalDTO);
         
         // Set user if userId is provided
         if (goalDTO.getUserId() != null) {
-            User user = userRepository.findById(goalDTO.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User not found with id: " + goalDTO.getUserId()));
-            goal.setUser(user);
+            // Owner usually comes from the second-level cache; its workouts and goals stay lazy
+            goal.setUser(userRepository.findById(goalDTO.getUserId())
+                    .orElseThrow(() -> new RuntimeException("User not found with id: " + goalDTO.getUserId())));
         }
 
-        Goal savedGoal = goalRepository.save(goal);
+        Goal savedGoal = saveEnforcingUniqueActiveTitle(goal);
         return goalMapper.toDTO(savedGoal);
     }
 
@@ -96,18 +121,11 @@ public class GoalServiceImpl implements GoalService {
 
         String updatedTitle = goalDTO.getTitle() != null ? goalDTO.getTitle().trim() : existingGoal.getTitle();
         String updatedStatus = goalDTO.getStatus() != null && !goalDTO.getStatus().isBlank()
-                ? goalDTO.getStatus()
+                ? normalizeStatus(goalDTO.getStatus())
                 : existingGoal.getStatus();
 
-        if (existingGoal.getUser() != null
-                && updatedTitle != null && !updatedTitle.isEmpty()
-                && "active".equalsIgnoreCase(updatedStatus)
-                && goalRepository.existsByUserIdAndStatusIgnoreCaseAndTitleIgnoreCaseAndIdNot(
-                        existingGoal.getUser().getId(),
-                        "active",
-                        updatedTitle,
-                        existingGoal.getId())) {
-            throw new IllegalStateException("An active goal for this exercise already exists.");
+        if (goalDTO.getVersion() != null && !goalDTO.getVersion().equals(existingGoal.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Goal.class, id);
         }
 
         // Update fields
@@ -121,7 +139,7 @@ public class GoalServiceImpl implements GoalService {
         existingGoal.setUnit(goalDTO.getUnit());
         existingGoal.setCurrentValue(goalDTO.getCurrentValue());
 
-        Goal updatedGoal = goalRepository.save(existingGoal);
+        Goal updatedGoal = saveEnforcingUniqueActiveTitle(existingGoal);
         return goalMapper.toDTO(updatedGoal);
     }
 
@@ -135,18 +153,112 @@ public class GoalServiceImpl implements GoalService {
 
     @Override
     public GoalDTO updateGoalProgress(Long id, Double currentValue) {
-        Goal goal = goalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Goal not found with id: " + id));
+        // One UPDATE ... RETURNING round trip; no read-modify-write race between concurrent events
+        evictAroundWrite(List.of(id));
+        return goalRepository.applyProgress(id, currentValue)
+                .map(goalMapper::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Goal not found with id: " + id));
+    }
 
-        goal.setCurrentValue(currentValue);
+    @Override
+    public List<GoalProgressResultDTO> updateGoalProgressBatch(List<GoalProgressUpdateDTO> updates) {
+        if (updates.size() > maxProgressBatchSize) {
+            throw new IllegalArgumentException("Batch exceeds the maximum of " + maxProgressBatchSize + " updates");
+        }
 
-        // Auto-complete goal if target is reached
-        if (goal.getTargetValue() != null && currentValue >= goal.getTargetValue()) {
-            goal.setStatus("completed");
+        List<Long> ids = new ArrayList<>(updates.size());
+        List<Double> currentValues = new ArrayList<>(updates.size());
+        for (GoalProgressUpdateDTO update : updates) {
+            if (update.getId() == null || update.getCurrentValue() == null) {
+                throw new IllegalArgumentException("Each update needs an id and a currentValue");
+            }
+            ids.add(update.getId());
+            currentValues.add(update.getCurrentValue());
+        }
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        Goal updatedGoal = goalRepository.save(goal);
-        return goalMapper.toDTO(updatedGoal);
+        // One JDBC batch for all updates, then one query to report the resulting state
+        evictAroundWrite(ids);
+        goalRepository.applyProgressBatch(ids, currentValues);
+        Map<Long, GoalDTO> goalsById = goalRepository.findWrittenByIdIn(new LinkedHashSet<>(ids)).stream()
+                .map(goalMapper::toDTO)
+                .collect(Collectors.toMap(GoalDTO::getId, Function.identity()));
+
+        // Report every entry in request order; duplicates all see the goal's final state
+        List<GoalProgressResultDTO> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            GoalDTO goal = goalsById.get(ids.get(i));
+            results.add(goal != null
+                    ? new GoalProgressResultDTO(i, ids.get(i), goal, null)
+                    : new GoalProgressResultDTO(i, ids.get(i), null, "Goal not found"));
+        }
+        return results;
     }
-}
 
+    private CursorPageDTO<GoalDTO> toPage(List<Goal> goals, int pageSize) {
+        boolean hasNext = goals.size() > pageSize;
+        List<Goal> page = hasNext ? goals.subList(0, pageSize) : goals;
+        String nextCursor = hasNext ? KeysetCursor.encode(page.get(page.size() - 1).getId()) : null;
+
+        return new CursorPageDTO<>(page.stream()
+                .map(goalMapper::toDTO)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Drops goals written by native SQL from the second-level cache, together with the per-user
+     * goal query results since their status may have changed. Evicts before the write and again
+     * when the transaction completes, so an entry a concurrent reader cached from the
+     * pre-commit row in between does not outlive the commit
+     */
+    private void evictAroundWrite(List<Long> goalIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        evict(cache, goalIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(cache, goalIds);
+            }
+        });
+    }
+
+    private static void evict(Cache cache, List<Long> goalIds) {
+        goalIds.forEach(goalId -> cache.evictEntityData(Goal.class, goalId));
+        cache.evictQueryRegion(GoalRepository.GOALS_BY_USER_REGION);
+    }
+
+    /**
+     * Statuses are stored lower-case (ck_goals_status_lowercase), so queries and the
+     * partial indexes can compare against plain literals such as 'active'
+     */
+    private static String normalizeStatus(String status) {
+        return status.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Saves and flushes so the uk_goals_user_active_title partial unique index
+     * (one active goal per title per user) is checked inside this call
+     */
+    private Goal saveEnforcingUniqueActiveTitle(Goal goal) {
+        try {
+            return goalRepository.saveAndFlush(goal);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateActiveTitle(e)) {
+                throw new IllegalStateException("An active goal for this exercise already exists.", e);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isDuplicateActiveTitle(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolation
+                    && ACTIVE_TITLE_CONSTRAINT.equalsIgnoreCase(constraintViolation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.fitness_tracker_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination
+ * Encodes the sort key of the last row of a page as a URL-safe token
+ */
+final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startTime;
+    private final Long id;
+
+    private KeysetCursor(LocalDateTime startTime, Long id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    /**
+     * Encodes an id-only position (goals, users)
+     */
+    static String encode(Long id) {
+        return toToken(String.valueOf(id));
+    }
+
+    /**
+     * Encodes a (startTime, id) position (workouts)
+     */
+    static String encode(LocalDateTime startTime, Long id) {
+        return toToken(startTime + SEPARATOR + id);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(Long)}
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static Long decodeId(String cursor) {
+        try {
+            return Long.valueOf(fromToken(cursor));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(LocalDateTime, Long)}
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static KeysetCursor decodeTimeAndId(String cursor) {
+        try {
+            String value = fromToken(cursor);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.valueOf(value.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Resolves the requested page size against the configured default and maximum
+     */
+    static int pageSize(Integer requested, int defaultSize, int maxSize) {
+        if (requested == null || requested <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    private static String toToken(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fromToken(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
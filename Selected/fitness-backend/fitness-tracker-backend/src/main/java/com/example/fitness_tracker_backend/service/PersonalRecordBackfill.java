@@ -0,0 +1,63 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.repository.PersonalRecordRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds personal records from the exercise history
+ * Users are split into id ranges rebuilt in parallel, each in its own short transaction.
+ * Runs at startup when app.personal-records.rebuild-on-startup is set.
+ */
+@Service
+public class PersonalRecordBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonalRecordBackfill.class);
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean rebuildOnStartup;
+
+    public PersonalRecordBackfill(PersonalRecordRepository personalRecordRepository,
+                                  UserRepository userRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.rollup.backfill-chunk-size:200}") int chunkSize,
+                                  @Value("${app.rollup.backfill-parallelism:4}") int parallelism,
+                                  @Value("${app.personal-records.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.personalRecordRepository = personalRecordRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes every user's records
+     * @return Record rows written
+     */
+    public long rebuild() {
+        long started = System.nanoTime();
+        long rows = UserRangeBatch.run(userRepository.findIdRange(), chunkSize, parallelism,
+                transactionTemplate, personalRecordRepository::rebuildUserRange);
+        log.info("Rebuilt {} personal record rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
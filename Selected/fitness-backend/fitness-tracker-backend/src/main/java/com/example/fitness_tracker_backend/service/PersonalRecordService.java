@@ -0,0 +1,28 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for personal records
+ * Part of the Business Logic Layer
+ */
+public interface PersonalRecordService {
+
+    /**
+     * Get a user's records for every exercise they have logged
+     * @param userId User ID
+     * @return Records ordered by exercise name
+     */
+    List<PersonalRecordDTO> getPersonalRecords(Long userId);
+
+    /**
+     * Get a user's records for one exercise
+     * @param userId User ID
+     * @param exerciseName Exercise name, matched ignoring case and surrounding spaces
+     * @return Optional PersonalRecordDTO, empty if the user never logged the exercise
+     */
+    Optional<PersonalRecordDTO> getPersonalRecord(Long userId, String exerciseName);
+}
@@ -0,0 +1,35 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+import com.example.fitness_tracker_backend.repository.PersonalRecordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of PersonalRecordService interface
+ * Records are maintained as exercises are saved, so reads never touch the exercise history
+ */
+@Service
+@Transactional(readOnly = true)
+public class PersonalRecordServiceImpl implements PersonalRecordService {
+
+    private final PersonalRecordRepository personalRecordRepository;
+
+    public PersonalRecordServiceImpl(PersonalRecordRepository personalRecordRepository) {
+        this.personalRecordRepository = personalRecordRepository;
+    }
+
+    @Override
+    public List<PersonalRecordDTO> getPersonalRecords(Long userId) {
+        return personalRecordRepository.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<PersonalRecordDTO> getPersonalRecord(Long userId, String exerciseName) {
+        return personalRecordRepository.findByUserIdAndExerciseName(
+                userId, PersonalRecordTracker.normalize(exerciseName));
+    }
+}
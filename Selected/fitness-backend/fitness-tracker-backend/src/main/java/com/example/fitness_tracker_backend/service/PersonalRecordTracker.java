@@ -0,0 +1,133 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+import com.example.fitness_tracker_backend.model.Exercise;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.PersonalRecordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps personal records in step with saved exercises
+ * Part of the Business Logic Layer; runs inside the caller's transaction.
+ * New exercises are folded into one candidate per exercise name and merged in a single batch;
+ * removals recompute only the affected exercise names from history.
+ */
+@Service
+@Transactional
+public class PersonalRecordTracker {
+
+    private final PersonalRecordRepository personalRecordRepository;
+
+    public PersonalRecordTracker(PersonalRecordRepository personalRecordRepository) {
+        this.personalRecordRepository = personalRecordRepository;
+    }
+
+    /**
+     * Merges every exercise of the given workouts into the owner's records
+     * @param userId Owner of the workouts, or null to skip
+     * @param workouts Newly saved workouts
+     */
+    public void record(Long userId, List<Workout> workouts) {
+        if (userId == null) {
+            return;
+        }
+
+        Map<String, PersonalRecordDTO> candidates = new LinkedHashMap<>();
+        for (Workout workout : workouts) {
+            if (workout.getExercises() == null) {
+                continue;
+            }
+            for (Exercise exercise : workout.getExercises()) {
+                if (exercise.getWeight() == null && exercise.getReps() == null && exercise.getDuration() == null) {
+                    continue;
+                }
+                merge(candidates.computeIfAbsent(normalize(exercise.getName()), PersonalRecordDTO::new), exercise);
+            }
+        }
+        personalRecordRepository.mergeAll(userId, candidates.values());
+    }
+
+    /**
+     * Call before a workout is deleted and before any other write for its owner in the transaction
+     * Locks the owner so the records can be recomputed once the workout is gone.
+     * @return Exercise names to pass to recompute, empty when nothing needs recomputing
+     */
+    public Set<String> prepareRemoval(Workout workout) {
+        Set<String> exerciseNames = new LinkedHashSet<>();
+        if (workout.getUser() == null || workout.getExercises() == null) {
+            return exerciseNames;
+        }
+
+        for (Exercise exercise : workout.getExercises()) {
+            exerciseNames.add(normalize(exercise.getName()));
+        }
+        if (!exerciseNames.isEmpty()) {
+            personalRecordRepository.lockUser(workout.getUser().getId());
+        }
+        return exerciseNames;
+    }
+
+    /**
+     * Recomputes the given exercise names from history once the removal has been flushed
+     */
+    public void recompute(Long userId, Set<String> exerciseNames) {
+        personalRecordRepository.rebuildExercises(userId, exerciseNames);
+    }
+
+    /**
+     * Estimated one-rep max for one set: Brzycki up to 10 reps, Epley above
+     * The two agree at 10 reps; Brzycki diverges as reps approach 37, Epley overstates a single rep.
+     * @return Estimate in the weight's unit, or null without a positive weight and reps
+     */
+    public static Double estimateOneRepMax(Double weight, Integer reps) {
+        if (weight == null || reps == null || weight <= 0 || reps <= 0) {
+            return null;
+        }
+        return reps <= 10 ? weight * 36 / (37 - reps) : weight * (1 + reps / 30.0);
+    }
+
+    static String normalize(String exerciseName) {
+        return exerciseName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Same rules as the merge in PersonalRecordRepository
+    private void merge(PersonalRecordDTO record, Exercise exercise) {
+        Double weight = exercise.getWeight();
+        Integer reps = exercise.getReps();
+
+        if (weight != null) {
+            if (record.getMaxWeight() == null || weight > record.getMaxWeight()) {
+                record.setMaxWeight(weight);
+                record.setRepsAtMaxWeight(reps);
+            } else if (weight.equals(record.getMaxWeight())) {
+                record.setRepsAtMaxWeight(max(record.getRepsAtMaxWeight(), reps));
+            }
+        }
+        if (reps != null) {
+            if (record.getMaxReps() == null || reps > record.getMaxReps()) {
+                record.setMaxReps(reps);
+                record.setWeightAtMaxReps(weight);
+            } else if (reps.equals(record.getMaxReps())) {
+                record.setWeightAtMaxReps(max(record.getWeightAtMaxReps(), weight));
+            }
+        }
+        record.setEstimatedOneRepMax(max(record.getEstimatedOneRepMax(), estimateOneRepMax(weight, reps)));
+        record.setLongestDuration(max(record.getLongestDuration(), exercise.getDuration()));
+    }
+
+    // Larger of two values, ignoring nulls like SQL GREATEST
+    private static <T extends Comparable<T>> T max(T current, T candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        return candidate == null || current.compareTo(candidate) >= 0 ? current : candidate;
+    }
+}
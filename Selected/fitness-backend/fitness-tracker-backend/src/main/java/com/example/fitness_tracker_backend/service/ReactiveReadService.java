@@ -0,0 +1,27 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for the reactive read API
+ * Results are streamed with backpressure instead of paged
+ */
+public interface ReactiveReadService {
+
+    /**
+     * Stream a user's full workout history, newest first, with exercises
+     * @param userId User ID
+     * @return Flux of WorkoutDTOs
+     */
+    Flux<WorkoutDTO> streamWorkoutsByUserId(Long userId);
+
+    /**
+     * Stream a user's goals
+     * @param userId User ID
+     * @param status Goal status to filter on, or null for all goals
+     * @return Flux of GoalDTOs
+     */
+    Flux<GoalDTO> streamGoalsByUserId(Long userId, String status);
+}
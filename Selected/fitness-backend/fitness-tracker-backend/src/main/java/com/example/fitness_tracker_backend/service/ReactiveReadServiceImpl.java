@@ -0,0 +1,31 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.repository.ReactiveReadRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Implementation of ReactiveReadService
+ * Reads go through R2DBC outside the JPA transaction manager
+ */
+@Service
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveReadServiceImpl(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    @Override
+    public Flux<WorkoutDTO> streamWorkoutsByUserId(Long userId) {
+        return reactiveReadRepository.streamWorkoutsWithExercisesByUserId(userId);
+    }
+
+    @Override
+    public Flux<GoalDTO> streamGoalsByUserId(Long userId, String status) {
+        return reactiveReadRepository.streamGoalsByUserId(userId, status == null || status.isBlank() ? null : status);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.TrainingLoadDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for training load
+ * Part of the Business Logic Layer
+ */
+public interface TrainingLoadService {
+
+    /**
+     * Get a user's acute and chronic load as of today
+     * @param userId User ID
+     * @return Optional TrainingLoadDTO, empty if the user does not exist
+     */
+    Optional<TrainingLoadDTO> getCurrentLoad(Long userId);
+
+    /**
+     * Get a user's training load for each day between from and to (both inclusive)
+     * @param userId User ID
+     * @param from First day
+     * @param to Last day
+     * @return One entry per day, oldest first
+     * @throws IllegalArgumentException if the range is reversed or too long
+     */
+    List<TrainingLoadDTO> getLoadSeries(Long userId, LocalDate from, LocalDate to);
+}
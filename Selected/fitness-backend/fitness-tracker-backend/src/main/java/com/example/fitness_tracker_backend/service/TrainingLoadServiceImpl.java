@@ -0,0 +1,88 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.dto.TrainingLoadDTO;
+import com.example.fitness_tracker_backend.repository.TrainingLoadRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of TrainingLoadService interface
+ * The current load is one primary key lookup on the maintained state.
+ * A series replays the daily rollup from a warm-up period before the range, so its cost
+ * follows the days requested and not the length of the user's history.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TrainingLoadServiceImpl implements TrainingLoadService {
+
+    private final TrainingLoadRepository trainingLoadRepository;
+    private final UserRepository userRepository;
+    private final TrainingLoadTracker trainingLoadTracker;
+    private final int warmupDays;
+    private final int maxSeriesDays;
+
+    public TrainingLoadServiceImpl(TrainingLoadRepository trainingLoadRepository,
+                                   UserRepository userRepository,
+                                   TrainingLoadTracker trainingLoadTracker,
+                                   @Value("${app.training-load.warmup-days:180}") int warmupDays,
+                                   @Value("${app.training-load.max-series-days:730}") int maxSeriesDays) {
+        this.trainingLoadRepository = trainingLoadRepository;
+        this.userRepository = userRepository;
+        this.trainingLoadTracker = trainingLoadTracker;
+        this.warmupDays = warmupDays;
+        this.maxSeriesDays = maxSeriesDays;
+    }
+
+    @Override
+    public Optional<TrainingLoadDTO> getCurrentLoad(Long userId) {
+        LocalDate today = LocalDate.now();
+        return trainingLoadRepository.findByUserId(userId)
+                .map(state -> {
+                    // Decay through the rest days since the last workout; a future workout is reported as is
+                    LocalDate day = state.lastDay().isAfter(today) ? state.lastDay() : today;
+                    long restDays = ChronoUnit.DAYS.between(state.lastDay(), day);
+                    return new TrainingLoadDTO(day, null,
+                            state.acute() * Math.pow(1 - TrainingLoadTracker.ACUTE_SMOOTHING, restDays),
+                            state.chronic() * Math.pow(1 - TrainingLoadTracker.CHRONIC_SMOOTHING, restDays));
+                })
+                .or(() -> userRepository.existsById(userId)
+                        ? Optional.of(new TrainingLoadDTO(today, null, 0, 0))
+                        : Optional.empty());
+    }
+
+    @Override
+    public List<TrainingLoadDTO> getLoadSeries(Long userId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Training load range must have from <= to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxSeriesDays) {
+            throw new IllegalArgumentException("Training load range spans more than " + maxSeriesDays + " days");
+        }
+
+        // After the warm-up, loads older than the window weigh (27/29)^warmupDays at most in the chronic average
+        LocalDate warmupStart = from.minusDays(warmupDays);
+        Map<LocalDate, Double> loadByDay = trainingLoadTracker.dailyLoads(userId, warmupStart, to);
+
+        List<TrainingLoadDTO> series = new ArrayList<>((int) ChronoUnit.DAYS.between(from, to) + 1);
+        double acute = 0;
+        double chronic = 0;
+        for (LocalDate day = warmupStart; !day.isAfter(to); day = day.plusDays(1)) {
+            double load = loadByDay.getOrDefault(day, 0.0);
+            acute += TrainingLoadTracker.ACUTE_SMOOTHING * (load - acute);
+            chronic += TrainingLoadTracker.CHRONIC_SMOOTHING * (load - chronic);
+            if (!day.isBefore(from)) {
+                series.add(new TrainingLoadDTO(day, load, acute, chronic));
+            }
+        }
+        return series;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.repository.DailyStatsDelta;
+import com.example.fitness_tracker_backend.repository.TrainingLoadRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps each user's acute and chronic training load in step with the daily rollup
+ * Part of the Business Logic Layer; runs inside the caller's transaction.
+ * A day's load is durationWeight * minutes + caloriesWeight * calories + volumeWeight * kg lifted.
+ * Both loads are exponentially weighted daily averages with smoothing 2 / (span + 1),
+ * over 7 days (acute) and 28 days (chronic); days without workouts count as zero load.
+ */
+@Service
+@Transactional
+public class TrainingLoadTracker {
+
+    static final int ACUTE_DAYS = 7;
+    static final int CHRONIC_DAYS = 28;
+    static final double ACUTE_SMOOTHING = 2.0 / (ACUTE_DAYS + 1);
+    static final double CHRONIC_SMOOTHING = 2.0 / (CHRONIC_DAYS + 1);
+
+    private final TrainingLoadRepository trainingLoadRepository;
+    private final double durationWeight;
+    private final double caloriesWeight;
+    private final double volumeWeight;
+
+    public TrainingLoadTracker(TrainingLoadRepository trainingLoadRepository,
+                               @Value("${app.training-load.duration-weight:1.0}") double durationWeight,
+                               @Value("${app.training-load.calories-weight:0.1}") double caloriesWeight,
+                               @Value("${app.training-load.volume-weight:0.01}") double volumeWeight) {
+        this.trainingLoadRepository = trainingLoadRepository;
+        this.durationWeight = durationWeight;
+        this.caloriesWeight = caloriesWeight;
+        this.volumeWeight = volumeWeight;
+    }
+
+    /**
+     * Applies the same deltas as the daily rollup: one single-row update per user and day touched
+     */
+    public void apply(List<DailyStatsDelta> deltas) {
+        Map<Long, Map<LocalDate, Double>> loadByUserAndDay = new LinkedHashMap<>();
+        for (DailyStatsDelta delta : deltas) {
+            double load = load(delta.totalDuration(), delta.totalCaloriesBurned(), delta.totalVolume());
+            loadByUserAndDay.computeIfAbsent(delta.userId(), userId -> new LinkedHashMap<>())
+                    .merge(delta.day(), load, Double::sum);
+        }
+        loadByUserAndDay.forEach((userId, loadByDay) ->
+                trainingLoadRepository.addLoads(userId, loadByDay, ACUTE_SMOOTHING, CHRONIC_SMOOTHING));
+    }
+
+    /**
+     * Recomputes the state of the given users from their freshly rebuilt daily rollup
+     * @return State rows written
+     */
+    public int rebuildUsers(List<Long> userIds) {
+        return trainingLoadRepository.rebuildUsers(userIds,
+                durationWeight, caloriesWeight, volumeWeight, ACUTE_SMOOTHING, CHRONIC_SMOOTHING);
+    }
+
+    /**
+     * Daily loads of one user between from and to (both inclusive); days without workouts are absent
+     */
+    Map<LocalDate, Double> dailyLoads(Long userId, LocalDate from, LocalDate to) {
+        return trainingLoadRepository.findDailyLoads(userId, from, to, durationWeight, caloriesWeight, volumeWeight);
+    }
+
+    private double load(long duration, long caloriesBurned, double volume) {
+        return durationWeight * duration + caloriesWeight * caloriesBurned + volumeWeight * volume;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.fitness_tracker_backend.service;
+
+import com.example.fitness_tracker_backend.repository.UserIdRangeView;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a per-user rebuild over the whole user id range in parallel chunks
+ * Each chunk covers fromUserId <= id < toUserId and runs in its own transaction,
+ * so only the users of one chunk are held up while it is recomputed.
+ */
+final class UserRangeBatch {
+
+    /**
+     * Rebuilds one chunk of users
+     */
+    @FunctionalInterface
+    interface ChunkRebuild {
+        int rebuild(long fromUserId, long toUserId);
+    }
+
+    private UserRangeBatch() {}
+
+    /**
+     * @return Sum of the rows each chunk reported
+     */
+    static long run(UserIdRangeView userIdRange, int chunkSize, int parallelism,
+                    TransactionTemplate transactionTemplate, ChunkRebuild chunkRebuild) {
+        if (userIdRange.getMinId() == null) {
+            return 0;
+        }
+        long maxId = userIdRange.getMaxId();
+
+        List<Future<Integer>> chunks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (long from = userIdRange.getMinId(); from <= maxId; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + chunkSize, maxId + 1);
+                chunks.add(executor.submit(() -> transactionTemplate.execute(
+                        status -> chunkRebuild.rebuild(chunkFrom, chunkTo))));
+            }
+
+            long rows = 0;
+            for (Future<Integer> chunk : chunks) {
+                rows += chunk.get();
+            }
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rebuild failed", e.getCause());
+        }
+    }
+}
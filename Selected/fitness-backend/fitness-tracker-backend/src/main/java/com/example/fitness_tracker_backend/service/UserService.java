@@ -1,7 +1,9 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.UserChangeStampDTO;
 import com.example.fitness_tracker_backend.dto.UserDTO;
-import java.util.List;
+import com.example.fitness_tracker_backend.dto.UserSessionDTO;
 import java.util.Optional;
 
 /**
@@ -11,10 +13,12 @@ import java.util.Optional;
 public interface UserService {
     
     /**
-     * Get all users
-     * @return List of UserDTOs
+     * Get one page of all users
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size, or null for the configured default
+     * @return Page of UserDTOs
      */
-    List<UserDTO> getAllUsers();
+    CursorPageDTO<UserDTO> getAllUsers(String cursor, Integer limit);
     
     /**
      * Get user by ID
@@ -23,6 +27,13 @@ public interface UserService {
      */
     Optional<UserDTO> getUserById(Long id);
     
+    /**
+     * Get the freshness stamp of a user's data without loading it
+     * @param id User ID
+     * @return Optional UserChangeStampDTO
+     */
+    Optional<UserChangeStampDTO> getChangeStamp(Long id);
+    
     /**
      * Get user by username
      * @param username Username
@@ -37,6 +48,14 @@ public interface UserService {
      */
     Optional<UserDTO> getUserByEmail(String email);
     
+    /**
+     * Authenticate a user by email and password
+     * @param email Email address
+     * @param password Password
+     * @return Optional UserSessionDTO, empty if the credentials do not match
+     */
+    Optional<UserSessionDTO> authenticate(String email, String password);
+    
     /**
      * Create a new user
      * @param userDTO User data
@@ -47,8 +66,9 @@ public interface UserService {
     /**
      * Update existing user
      * @param id User ID
-     * @param userDTO Updated user data
+     * @param userDTO Updated user data; a non-null version must match the stored one
      * @return Updated UserDTO
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the user was changed concurrently
      */
     UserDTO updateUser(Long id, UserDTO userDTO);
     
@@ -1,13 +1,27 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.UserChangeStampDTO;
 import com.example.fitness_tracker_backend.dto.UserDTO;
+import com.example.fitness_tracker_backend.dto.UserSessionDTO;
 import com.example.fitness_tracker_backend.mapper.UserMapper;
+import com.example.fitness_tracker_backend.model.Goal;
 import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
 import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.UserSummaryView;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,26 +34,80 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final GoalRepository goalRepository;
     private final UserMapper userMapper;
-
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper) {
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int profileWorkouts;
+    private final int profileGoals;
+
+    public UserServiceImpl(UserRepository userRepository,
+                          WorkoutRepository workoutRepository,
+                          GoalRepository goalRepository,
+                          UserMapper userMapper,
+                          @Value("${app.pagination.default-size:20}") int defaultPageSize,
+                          @Value("${app.pagination.max-size:100}") int maxPageSize,
+                          @Value("${app.users.profile-workouts:20}") int profileWorkouts,
+                          @Value("${app.users.profile-goals:100}") int profileGoals) {
         this.userRepository = userRepository;
+        this.workoutRepository = workoutRepository;
+        this.goalRepository = goalRepository;
         this.userMapper = userMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.profileWorkouts = profileWorkouts;
+        this.profileGoals = profileGoals;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<UserDTO> getAllUsers(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+        Long afterId = cursor == null || cursor.isBlank() ? 0L : KeysetCursor.decodeId(cursor);
+
+        // Profile columns only; workout and goal history is served by the per-user endpoints.
+        // One extra row is fetched to detect whether another page exists.
+        List<UserSummaryView> users = userRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = users.size() > pageSize;
+        List<UserSummaryView> page = hasNext ? users.subList(0, pageSize) : users;
+        String nextCursor = hasNext ? KeysetCursor.encode(page.get(page.size() - 1).getId()) : null;
+
+        return new CursorPageDTO<>(page.stream()
+                .map(userMapper::toSummaryDTO)
+                .collect(Collectors.toList()), nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
+        // Profile plus bounded, indexed slices: the cost does not grow with the user's history
         return userRepository.findById(id)
-                .map(userMapper::toDTO);
+                .map(user -> userMapper.toProfileDTO(user,
+                        workoutRepository.findByUserIdOrderByStartTimeDescIdDesc(
+                                id, PageRequest.of(0, profileWorkouts)),
+                        profileGoals(id)));
+    }
+
+    /**
+     * Newest goals plus every active goal, however old: clients list active goals
+     * from the profile, so an old active goal must not fall outside the slice
+     */
+    private List<Goal> profileGoals(Long userId) {
+        Map<Long, Goal> goals = new LinkedHashMap<>();
+        goalRepository.findByUserIdOrderByIdDesc(userId, PageRequest.of(0, profileGoals))
+                .forEach(goal -> goals.put(goal.getId(), goal));
+        goalRepository.findActiveByUserIdOrderByTargetDate(userId, Pageable.unpaged())
+                .forEach(goal -> goals.putIfAbsent(goal.getId(), goal));
+        return new ArrayList<>(goals.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserChangeStampDTO> getChangeStamp(Long id) {
+        return userRepository.findChangeStampById(id)
+                .map(userMapper::toChangeStampDTO);
     }
 
     @Override
@@ -56,6 +124,19 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserSessionDTO> authenticate(String email, String password) {
+        if (email == null || password == null) {
+            return Optional.empty();
+        }
+
+        // Single indexed lookup on the unique email column; collections are never loaded
+        return userRepository.findCredentialsByEmail(email)
+                .filter(credentials -> password.equals(credentials.getPassword()))
+                .map(userMapper::toSessionDTO);
+    }
+
     @Override
     public UserDTO createUser(UserDTO userDTO) {
         User user = userMapper.toEntity(userDTO);
@@ -68,6 +149,10 @@ public class UserServiceImpl implements UserService {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
 
+        if (userDTO.getVersion() != null && !userDTO.getVersion().equals(existingUser.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(User.class, id);
+        }
+
         // Update fields
         existingUser.setUsername(userDTO.getUsername());
         existingUser.setEmail(userDTO.getEmail());
@@ -82,7 +167,8 @@ public class UserServiceImpl implements UserService {
             existingUser.setPassword(userDTO.getPassword());
         }
 
-        User updatedUser = userRepository.save(existingUser);
+        // Flush so a concurrent edit surfaces here and the returned version is the new one
+        User updatedUser = userRepository.saveAndFlush(existingUser);
         return userMapper.toDTO(updatedUser);
     }
 
@@ -1,7 +1,14 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutBatchResultDTO;
 import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutStatsBucketDTO;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -11,10 +18,12 @@ import java.util.Optional;
 public interface WorkoutService {
     
     /**
-     * Get all workouts
-     * @return List of WorkoutDTOs
+     * Get one page of all workouts
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size, or null for the configured default
+     * @return Page of WorkoutDTOs
      */
-    List<WorkoutDTO> getAllWorkouts();
+    CursorPageDTO<WorkoutDTO> getAllWorkouts(String cursor, Integer limit);
     
     /**
      * Get workout by ID
@@ -24,24 +33,63 @@ public interface WorkoutService {
     Optional<WorkoutDTO> getWorkoutById(Long id);
     
     /**
-     * Get workouts by user ID
+     * Get one page of workouts by user ID
      * @param userId User ID
-     * @return List of WorkoutDTOs
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size, or null for the configured default
+     * @return Page of WorkoutDTOs
      */
-    List<WorkoutDTO> getWorkoutsByUserId(Long userId);
+    CursorPageDTO<WorkoutDTO> getWorkoutsByUserId(Long userId, String cursor, Integer limit);
     
     /**
-     * Create a new workout
+     * Write every workout of a user to the stream as newline-delimited JSON
+     * @param userId User ID
+     * @param outputStream Destination of the NDJSON lines
+     * @throws IOException if writing to the stream fails
+     */
+    void exportWorkoutsByUserId(Long userId, OutputStream outputStream) throws IOException;
+    
+    /**
+     * Aggregate a user's workouts per day, week or month, grouped in the database
+     * @param userId User ID
+     * @param from First day of the range
+     * @param to Last day of the range, inclusive
+     * @param bucket day, week (starting Monday) or month
+     * @return Buckets holding at least one workout, oldest first
+     * @throws IllegalArgumentException if the bucket is unknown, the range is inverted or spans too many buckets
+     */
+    List<WorkoutStatsBucketDTO> getWorkoutStats(Long userId, LocalDate from, LocalDate to, String bucket);
+    
+    /**
+     * Create a new workout and progress the owner's active goals
      * @param workoutDTO Workout data
-     * @return Created WorkoutDTO
+     * @return Created WorkoutDTO, including the resulting goal progress
      */
     WorkoutDTO createWorkout(WorkoutDTO workoutDTO);
     
+    /**
+     * Create many workouts for one user in a single transaction
+     * @param userId Owner of every workout in the batch
+     * @param workoutDTOs Workout data, optionally with nested exercises
+     * @return Per-item ids and validation errors, in request order
+     */
+    WorkoutBatchResultDTO createWorkouts(Long userId, List<WorkoutDTO> workoutDTOs);
+
+    /**
+     * Create many workouts for one user, reporting items the caller already rejected
+     * @param userId Owner of every workout in the batch
+     * @param workoutDTOs Workout data in request order; null where the item was rejected
+     * @param rejected Error message per rejected request index
+     * @return Per-item ids and errors, in request order
+     */
+    WorkoutBatchResultDTO createWorkouts(Long userId, List<WorkoutDTO> workoutDTOs, Map<Integer, String> rejected);
+    
     /**
      * Update existing workout
      * @param id Workout ID
-     * @param workoutDTO Updated workout data
+     * @param workoutDTO Updated workout data; a non-null version must match the stored one
      * @return Updated WorkoutDTO
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the workout was changed concurrently
      */
     WorkoutDTO updateWorkout(Long id, WorkoutDTO workoutDTO);
     
@@ -1,17 +1,43 @@
 package com.example.fitness_tracker_backend.service;
 
+import com.example.fitness_tracker_backend.dto.CursorPageDTO;
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutBatchItemDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutBatchResultDTO;
 import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutStatsBucketDTO;
+import com.example.fitness_tracker_backend.exception.ResourceNotFoundException;
 import com.example.fitness_tracker_backend.mapper.WorkoutMapper;
+import com.example.fitness_tracker_backend.model.Exercise;
 import com.example.fitness_tracker_backend.model.User;
 import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.DailyStatsDelta;
+import com.example.fitness_tracker_backend.repository.UserDailyStatsRepository;
 import com.example.fitness_tracker_backend.repository.UserRepository;
 import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of WorkoutService interface
@@ -21,39 +47,152 @@ import java.util.stream.Collectors;
 @Transactional
 public class WorkoutServiceImpl implements WorkoutService {
 
+    // Workouts written per exercise query and persistence-context clear during an export
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final WorkoutRepository workoutRepository;
     private final UserRepository userRepository;
     private final WorkoutMapper workoutMapper;
+    private final GoalProgressEngine goalProgressEngine;
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final PersonalRecordTracker personalRecordTracker;
+    private final TrainingLoadTracker trainingLoadTracker;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBatchSize;
+    private final int maxStatsBuckets;
 
     public WorkoutServiceImpl(WorkoutRepository workoutRepository, 
                              UserRepository userRepository,
-                             WorkoutMapper workoutMapper) {
+                             WorkoutMapper workoutMapper,
+                             GoalProgressEngine goalProgressEngine,
+                             UserDailyStatsRepository userDailyStatsRepository,
+                             PersonalRecordTracker personalRecordTracker,
+                             TrainingLoadTracker trainingLoadTracker,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             @Value("${app.pagination.default-size:20}") int defaultPageSize,
+                             @Value("${app.pagination.max-size:100}") int maxPageSize,
+                             @Value("${app.workouts.batch-max-size:500}") int maxBatchSize,
+                             @Value("${app.workouts.stats-max-buckets:2000}") int maxStatsBuckets) {
         this.workoutRepository = workoutRepository;
         this.userRepository = userRepository;
         this.workoutMapper = workoutMapper;
+        this.goalProgressEngine = goalProgressEngine;
+        this.userDailyStatsRepository = userDailyStatsRepository;
+        this.personalRecordTracker = personalRecordTracker;
+        this.trainingLoadTracker = trainingLoadTracker;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
+        this.maxStatsBuckets = maxStatsBuckets;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<WorkoutDTO> getAllWorkouts() {
-        return workoutRepository.findAll().stream()
-                .map(workoutMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<WorkoutDTO> getAllWorkouts(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+        // Fetch one extra row to detect whether another page exists
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<Workout> workouts;
+        if (cursor == null || cursor.isBlank()) {
+            workouts = workoutRepository.findAllByOrderByStartTimeDescIdDesc(window);
+        } else {
+            KeysetCursor position = KeysetCursor.decodeTimeAndId(cursor);
+            workouts = workoutRepository.findPageAfter(position.getStartTime(), position.getId(), window);
+        }
+        return toPage(workouts, pageSize);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<WorkoutDTO> getWorkoutById(Long id) {
-        return workoutRepository.findById(id)
+        return workoutRepository.findWithExercisesById(id)
                 .map(workoutMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<WorkoutDTO> getWorkoutsByUserId(Long userId) {
-        return workoutRepository.findByUserId(userId).stream()
-                .map(workoutMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<WorkoutDTO> getWorkoutsByUserId(Long userId, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<Workout> workouts;
+        if (cursor == null || cursor.isBlank()) {
+            workouts = workoutRepository.findByUserIdOrderByStartTimeDescIdDesc(userId, window);
+        } else {
+            KeysetCursor position = KeysetCursor.decodeTimeAndId(cursor);
+            workouts = workoutRepository.findPageByUserIdAfter(
+                    userId, position.getStartTime(), position.getId(), window);
+        }
+        return toPage(workouts, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportWorkoutsByUserId(Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Workout> workouts = workoutRepository.streamByUserId(userId)) {
+            Iterator<Workout> iterator = workouts.iterator();
+            List<Long> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next().getId());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeExportChunk(chunk, outputStream);
+                    chunk.clear();
+
+                    // Drop managed workouts and exercises so memory stays flat for long histories
+                    entityManager.clear();
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Writes one chunk of the streamed history in stream order, loading the chunk's
+     * exercises with one IN query instead of one lazy load per workout
+     */
+    private void writeExportChunk(List<Long> workoutIds, OutputStream outputStream) throws IOException {
+        Map<Long, Workout> workoutsById = workoutRepository.findWithExercisesByIdIn(workoutIds).stream()
+                .collect(Collectors.toMap(Workout::getId, workout -> workout));
+        for (Long workoutId : workoutIds) {
+            Workout workout = workoutsById.get(workoutId);
+            // Deleted after the cursor read it
+            if (workout == null) {
+                continue;
+            }
+            outputStream.write(objectMapper.writeValueAsBytes(workoutMapper.toDTO(workout)));
+            outputStream.write('\n');
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkoutStatsBucketDTO> getWorkoutStats(Long userId, LocalDate from, LocalDate to, String bucket) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Statistics range must have from <= to");
+        }
+
+        long buckets;
+        switch (bucket == null ? "" : bucket) {
+            case "day" -> buckets = ChronoUnit.DAYS.between(from, to) + 1;
+            case "week" -> buckets = ChronoUnit.WEEKS.between(
+                    from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), to) + 1;
+            case "month" -> buckets = ChronoUnit.MONTHS.between(from.withDayOfMonth(1), to) + 1;
+            default -> throw new IllegalArgumentException("Unknown statistics bucket: " + bucket);
+        }
+        if (buckets > maxStatsBuckets) {
+            throw new IllegalArgumentException("Statistics range spans more than " + maxStatsBuckets + " buckets");
+        }
+
+        // Served from the daily rollup, so the cost follows the days in range rather than the workouts
+        return userDailyStatsRepository.aggregateByBucket(userId, bucket, from, to);
     }
 
     @Override
@@ -62,13 +201,64 @@ public class WorkoutServiceImpl implements WorkoutService {
         
         // Set user if userId is provided
         if (workoutDTO.getUserId() != null) {
-            User user = userRepository.findById(workoutDTO.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User not found with id: " + workoutDTO.getUserId()));
-            workout.setUser(user);
+            // Owner usually comes from the second-level cache; its workouts and goals stay lazy
+            workout.setUser(userRepository.findById(workoutDTO.getUserId())
+                    .orElseThrow(() -> new RuntimeException("User not found with id: " + workoutDTO.getUserId())));
         }
 
         Workout savedWorkout = workoutRepository.save(workout);
-        return workoutMapper.toDTO(savedWorkout);
+        applyRollupDeltas(rollupDeltas(List.of(savedWorkout), 1));
+        personalRecordTracker.record(workoutDTO.getUserId(), List.of(savedWorkout));
+        WorkoutDTO savedWorkoutDTO = workoutMapper.toDTO(savedWorkout);
+
+        // Progress the owner's active goals in this same transaction
+        savedWorkoutDTO.setGoalProgress(
+                goalProgressEngine.evaluate(workoutDTO.getUserId(), List.of(savedWorkout)));
+        return savedWorkoutDTO;
+    }
+
+    @Override
+    public WorkoutBatchResultDTO createWorkouts(Long userId, List<WorkoutDTO> workoutDTOs) {
+        return createWorkouts(userId, workoutDTOs, Map.of());
+    }
+
+    @Override
+    public WorkoutBatchResultDTO createWorkouts(Long userId, List<WorkoutDTO> workoutDTOs, Map<Integer, String> rejected) {
+        if (workoutDTOs.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch exceeds the maximum of " + maxBatchSize + " workouts");
+        }
+        // Resolve the owner once for the whole batch, usually from the second-level cache
+        User owner = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+
+        WorkoutBatchItemDTO[] items = new WorkoutBatchItemDTO[workoutDTOs.size()];
+        List<Workout> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < workoutDTOs.size(); i++) {
+            WorkoutDTO workoutDTO = workoutDTOs.get(i);
+            String error = rejected.containsKey(i) ? rejected.get(i) : validateForBatch(workoutDTO);
+            if (error != null) {
+                items[i] = new WorkoutBatchItemDTO(i, null, error);
+                continue;
+            }
+
+            Workout workout = workoutMapper.toEntity(workoutDTO);
+            workout.setUser(owner);
+            accepted.add(workout);
+            acceptedIndexes.add(i);
+        }
+
+        // Sequence ids are assigned on persist; the INSERTs go out as JDBC batches at flush
+        List<Workout> saved = workoutRepository.saveAll(accepted);
+        applyRollupDeltas(rollupDeltas(saved, 1));
+        personalRecordTracker.record(userId, saved);
+        goalProgressEngine.evaluate(userId, saved);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            items[index] = new WorkoutBatchItemDTO(index, saved.get(i).getId(), null);
+        }
+
+        return new WorkoutBatchResultDTO(saved.size(), items.length - saved.size(), List.of(items));
     }
 
     @Override
@@ -76,6 +266,13 @@ public class WorkoutServiceImpl implements WorkoutService {
         Workout existingWorkout = workoutRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Workout not found with id: " + id));
 
+        if (workoutDTO.getVersion() != null && !workoutDTO.getVersion().equals(existingWorkout.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Workout.class, id);
+        }
+
+        // Take the old contribution out of the rollup before the fields change
+        List<DailyStatsDelta> deltas = new ArrayList<>(rollupDeltas(List.of(existingWorkout), -1));
+
         // Update fields
         existingWorkout.setName(workoutDTO.getName());
         existingWorkout.setDescription(workoutDTO.getDescription());
@@ -85,16 +282,94 @@ public class WorkoutServiceImpl implements WorkoutService {
         existingWorkout.setType(workoutDTO.getType());
         existingWorkout.setCaloriesBurned(workoutDTO.getCaloriesBurned());
 
-        Workout updatedWorkout = workoutRepository.save(existingWorkout);
+        // Flush so a concurrent edit surfaces here and the returned version is the new one
+        Workout updatedWorkout = workoutRepository.saveAndFlush(existingWorkout);
+        deltas.addAll(rollupDeltas(List.of(updatedWorkout), 1));
+        applyRollupDeltas(deltas);
         return workoutMapper.toDTO(updatedWorkout);
     }
 
     @Override
     public void deleteWorkout(Long id) {
-        if (!workoutRepository.existsById(id)) {
-            throw new RuntimeException("Workout not found with id: " + id);
+        Workout workout = workoutRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Workout not found with id: " + id));
+        // Locks the owner ahead of the rollup write; the exercises must be gone before records are recomputed
+        Set<String> exerciseNames = personalRecordTracker.prepareRemoval(workout);
+        applyRollupDeltas(rollupDeltas(List.of(workout), -1));
+        workoutRepository.delete(workout);
+        if (!exerciseNames.isEmpty()) {
+            workoutRepository.flush();
+            personalRecordTracker.recompute(workout.getUser().getId(), exerciseNames);
         }
-        workoutRepository.deleteById(id);
     }
-}
 
+    private CursorPageDTO<WorkoutDTO> toPage(List<Workout> workouts, int pageSize) {
+        boolean hasNext = workouts.size() > pageSize;
+        List<Workout> page = hasNext ? workouts.subList(0, pageSize) : workouts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Workout last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getStartTime(), last.getId());
+        }
+
+        return new CursorPageDTO<>(page.stream()
+                .map(workoutMapper::toDTO)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    // The daily rollup and the training load built on it change together
+    private void applyRollupDeltas(List<DailyStatsDelta> deltas) {
+        userDailyStatsRepository.applyDeltas(deltas);
+        trainingLoadTracker.apply(deltas);
+    }
+
+    /**
+     * Contribution of each owned workout to its user_daily_stats row, added (sign 1) or removed (sign -1)
+     */
+    private List<DailyStatsDelta> rollupDeltas(List<Workout> workouts, int sign) {
+        List<DailyStatsDelta> deltas = new ArrayList<>(workouts.size());
+        for (Workout workout : workouts) {
+            if (workout.getUser() == null || workout.getStartTime() == null) {
+                continue;
+            }
+            String type = workout.getType() == null ? UserDailyStatsRepository.UNSPECIFIED_TYPE : workout.getType();
+            long duration = workout.getDuration() == null ? 0 : workout.getDuration();
+            long calories = workout.getCaloriesBurned() == null ? 0 : workout.getCaloriesBurned();
+            deltas.add(new DailyStatsDelta(workout.getUser().getId(), workout.getStartTime().toLocalDate(), type,
+                    sign, sign * duration, sign * calories, sign * volume(workout)));
+        }
+        return deltas;
+    }
+
+    // Kilograms lifted: sets x reps x weight, one set when sets is missing
+    private double volume(Workout workout) {
+        double volume = 0;
+        if (workout.getExercises() != null) {
+            for (Exercise exercise : workout.getExercises()) {
+                if (exercise.getReps() != null && exercise.getWeight() != null) {
+                    int sets = exercise.getSets() == null ? 1 : exercise.getSets();
+                    volume += sets * exercise.getReps() * exercise.getWeight();
+                }
+            }
+        }
+        return volume;
+    }
+
+    private String validateForBatch(WorkoutDTO workoutDTO) {
+        if (workoutDTO.getName() == null || workoutDTO.getName().isBlank()) {
+            return "Workout name is required";
+        }
+        if (workoutDTO.getStartTime() == null) {
+            return "Workout startTime is required";
+        }
+        if (workoutDTO.getExercises() != null) {
+            for (ExerciseDTO exerciseDTO : workoutDTO.getExercises()) {
+                if (exerciseDTO.getName() == null || exerciseDTO.getName().isBlank()) {
+                    return "Exercise name is required";
+                }
+            }
+        }
+        return null;
+    }
+}
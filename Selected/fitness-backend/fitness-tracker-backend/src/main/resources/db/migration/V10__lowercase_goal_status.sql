@@ -0,0 +1,13 @@
+-- Goal statuses are normalized to lower case on write (GoalServiceImpl), so every
+-- query and partial index can match status = 'active' directly.
+
+UPDATE goals SET status = lower(status) WHERE status <> lower(status);
+
+ALTER TABLE goals ADD CONSTRAINT ck_goals_status_lowercase CHECK (status = lower(status));
+
+-- Same rule as V3 with the plain predicate used by idx_goals_user_active_target_date
+DROP INDEX uk_goals_user_active_title;
+
+CREATE UNIQUE INDEX uk_goals_user_active_title
+    ON goals (user_id, lower(title))
+    WHERE status = 'active';
@@ -0,0 +1,55 @@
+-- Moves the per-user change counter from V5 out of the users row into its own table.
+-- Every workout, exercise and goal write held the users row lock until commit, serializing
+-- those writes against profile updates and each other on the user's hottest row and
+-- leaving a dead users tuple behind per statement. The counter now lives in a narrow
+-- row that nothing else touches; users.version still covers the user row itself.
+
+CREATE TABLE user_change_stamps (
+    user_id         BIGINT  PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    change_counter  BIGINT  NOT NULL
+);
+
+-- Carry the current counters over so existing ETags stay valid
+INSERT INTO user_change_stamps (user_id, change_counter)
+SELECT id, change_counter FROM users WHERE change_counter > 0;
+
+-- Upsert in user id order so concurrent multi-user statements lock stamps consistently.
+-- Joining users skips null owners and users already deleted by the cascading statement.
+CREATE FUNCTION bump_user_change_stamps(user_ids BIGINT[]) RETURNS void AS $$
+    INSERT INTO user_change_stamps AS s (user_id, change_counter)
+    SELECT u.id, 1 FROM users u WHERE u.id = ANY (user_ids) ORDER BY u.id
+    ON CONFLICT (user_id) DO UPDATE SET change_counter = s.change_counter + 1;
+$$ LANGUAGE sql;
+
+-- The V5 triggers keep calling these functions by name
+CREATE OR REPLACE FUNCTION bump_user_change_counter() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_user_change_stamps(ARRAY(SELECT user_id FROM new_rows));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_user_change_stamps(ARRAY(SELECT user_id FROM old_rows UNION SELECT user_id FROM new_rows));
+    ELSE
+        PERFORM bump_user_change_stamps(ARRAY(SELECT user_id FROM old_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION bump_user_change_counter_for_exercises() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_user_change_stamps(ARRAY(
+            SELECT w.user_id FROM workouts w WHERE w.id IN (SELECT workout_id FROM new_rows)));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_user_change_stamps(ARRAY(
+            SELECT w.user_id FROM workouts w
+            WHERE w.id IN (SELECT workout_id FROM old_rows UNION SELECT workout_id FROM new_rows)));
+    ELSE
+        PERFORM bump_user_change_stamps(ARRAY(
+            SELECT w.user_id FROM workouts w WHERE w.id IN (SELECT workout_id FROM old_rows)));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE users DROP COLUMN change_counter;
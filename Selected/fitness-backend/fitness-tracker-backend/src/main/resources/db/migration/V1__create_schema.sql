@@ -0,0 +1,60 @@
+-- Baseline schema matching the JPA entities in com.example.fitness_tracker_backend.model
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE workouts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE exercises_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE goals_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id             BIGINT           NOT NULL PRIMARY KEY,
+    username       VARCHAR(50)      NOT NULL,
+    email          VARCHAR(100)     NOT NULL,
+    password       VARCHAR(100)     NOT NULL,
+    first_name     VARCHAR(255),
+    last_name      VARCHAR(255),
+    date_of_birth  DATE,
+    gender         VARCHAR(255),
+    height         DOUBLE PRECISION,
+    weight         DOUBLE PRECISION,
+    fitness_level  VARCHAR(255),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE workouts (
+    id               BIGINT        NOT NULL PRIMARY KEY,
+    name             VARCHAR(255)  NOT NULL,
+    description      VARCHAR(255),
+    start_time       TIMESTAMP(6)  NOT NULL,
+    end_time         TIMESTAMP(6),
+    duration         INTEGER,
+    type             VARCHAR(255),
+    calories_burned  INTEGER,
+    user_id          BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE exercises (
+    id           BIGINT            NOT NULL PRIMARY KEY,
+    name         VARCHAR(255)      NOT NULL,
+    description  VARCHAR(255),
+    category     VARCHAR(255),
+    sets         INTEGER,
+    reps         INTEGER,
+    weight       DOUBLE PRECISION,
+    duration     INTEGER,
+    rest_time    INTEGER,
+    workout_id   BIGINT REFERENCES workouts (id)
+);
+
+CREATE TABLE goals (
+    id             BIGINT            NOT NULL PRIMARY KEY,
+    title          VARCHAR(255)      NOT NULL,
+    description    VARCHAR(255),
+    target_date    DATE              NOT NULL,
+    start_date     DATE,
+    status         VARCHAR(255),
+    category       VARCHAR(255),
+    target_value   DOUBLE PRECISION,
+    unit           VARCHAR(255),
+    current_value  DOUBLE PRECISION,
+    user_id        BIGINT REFERENCES users (id)
+);
@@ -0,0 +1,31 @@
+-- Secondary indexes for the repository query methods.
+-- Spring Data's IgnoreCase predicates compile to upper(...), so the
+-- functional indexes are built on upper() to be usable by those queries.
+
+-- UserRepository.findByUsername / existsByUsername (email is covered by uk_users_email)
+CREATE INDEX idx_users_username ON users (username);
+
+-- WorkoutRepository.findByUserId, findByUserIdAndStartTimeBetween, the per-user
+-- keyset page (start_time DESC, id DESC) and the streaming export
+CREATE INDEX idx_workouts_user_start_time ON workouts (user_id, start_time, id);
+
+-- WorkoutRepository.findByUserIdAndType
+CREATE INDEX idx_workouts_user_type ON workouts (user_id, type);
+
+-- WorkoutRepository global keyset page
+CREATE INDEX idx_workouts_start_time ON workouts (start_time, id);
+
+-- Batched loading of Workout.exercises (workout_id IN / = ANY)
+CREATE INDEX idx_exercises_workout ON exercises (workout_id);
+
+-- GoalRepository.findByUserId and the per-user keyset page (id ASC)
+CREATE INDEX idx_goals_user_id ON goals (user_id, id);
+
+-- GoalRepository.findByUserIdAndStatus
+CREATE INDEX idx_goals_user_status ON goals (user_id, status);
+
+-- GoalRepository.findByUserIdAndCategory
+CREATE INDEX idx_goals_user_category ON goals (user_id, category);
+
+-- GoalRepository.existsByUserIdAndStatusIgnoreCaseAndTitleIgnoreCase[AndIdNot]
+CREATE INDEX idx_goals_user_upper_status_title ON goals (user_id, upper(status), upper(title));
@@ -0,0 +1,8 @@
+-- One active goal per title (case-insensitive) per user, enforced by the database.
+-- Replaces the existsBy...IgnoreCase pre-check in GoalServiceImpl and its index.
+
+DROP INDEX idx_goals_user_upper_status_title;
+
+CREATE UNIQUE INDEX uk_goals_user_active_title
+    ON goals (user_id, lower(title))
+    WHERE lower(status) = 'active';
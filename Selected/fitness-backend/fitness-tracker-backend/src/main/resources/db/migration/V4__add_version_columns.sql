@@ -0,0 +1,6 @@
+-- Optimistic locking: Hibernate checks and bumps these on every entity update,
+-- and the bulk progress statements in GoalRepository bump goals.version themselves.
+
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE workouts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE goals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
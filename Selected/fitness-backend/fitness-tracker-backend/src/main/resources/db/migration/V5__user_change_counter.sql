@@ -0,0 +1,70 @@
+-- Per-user change counter for conditional GETs (ETag / If-None-Match).
+-- Bumped by triggers so every write path is covered, including the native and JDBC batch
+-- statements that bypass Hibernate. users.version still covers the user row itself.
+-- Statement-level triggers with transition tables: a rewritten multi-row INSERT of a batch
+-- bumps each affected user once instead of once per row.
+
+ALTER TABLE users ADD COLUMN change_counter BIGINT NOT NULL DEFAULT 0;
+
+CREATE FUNCTION bump_user_change_counter() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT user_id FROM new_rows);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT user_id FROM old_rows UNION SELECT user_id FROM new_rows);
+    ELSE
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT user_id FROM old_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION bump_user_change_counter_for_exercises() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT w.user_id FROM workouts w WHERE w.id IN (SELECT workout_id FROM new_rows));
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT w.user_id FROM workouts w
+                     WHERE w.id IN (SELECT workout_id FROM old_rows UNION SELECT workout_id FROM new_rows));
+    ELSE
+        UPDATE users SET change_counter = change_counter + 1
+        WHERE id IN (SELECT w.user_id FROM workouts w WHERE w.id IN (SELECT workout_id FROM old_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_workouts_change_counter_insert AFTER INSERT ON workouts
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+CREATE TRIGGER trg_workouts_change_counter_update AFTER UPDATE ON workouts
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+CREATE TRIGGER trg_workouts_change_counter_delete AFTER DELETE ON workouts
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+
+CREATE TRIGGER trg_goals_change_counter_insert AFTER INSERT ON goals
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+CREATE TRIGGER trg_goals_change_counter_update AFTER UPDATE ON goals
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+CREATE TRIGGER trg_goals_change_counter_delete AFTER DELETE ON goals
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter();
+
+CREATE TRIGGER trg_exercises_change_counter_insert AFTER INSERT ON exercises
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter_for_exercises();
+CREATE TRIGGER trg_exercises_change_counter_update AFTER UPDATE ON exercises
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter_for_exercises();
+CREATE TRIGGER trg_exercises_change_counter_delete AFTER DELETE ON exercises
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_change_counter_for_exercises();
@@ -0,0 +1,3 @@
+-- GoalRepository.findActiveByUserIdOrderByTargetDate (dashboard): a user's active goals
+-- due soonest, read as a bounded range of this partial index without a sort
+CREATE INDEX idx_goals_user_active_target_date ON goals (user_id, target_date, id) WHERE status = 'active';
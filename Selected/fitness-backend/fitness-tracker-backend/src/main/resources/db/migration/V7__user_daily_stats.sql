@@ -0,0 +1,20 @@
+-- Daily workout rollup per user and workout type, maintained by WorkoutServiceImpl in the
+-- same transaction as each workout write and rebuilt on demand by DailyStatsBackfill.
+-- Range statistics read one row per day and type instead of every workout.
+CREATE TABLE user_daily_stats (
+    user_id                BIGINT        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    day                    DATE          NOT NULL,
+    type                   VARCHAR(255)  NOT NULL, -- 'unspecified' for workouts without a type
+    workout_count          INTEGER       NOT NULL,
+    total_duration         BIGINT        NOT NULL,
+    total_calories_burned  BIGINT        NOT NULL,
+    PRIMARY KEY (user_id, day, type)
+);
+
+-- Seed from the existing history
+INSERT INTO user_daily_stats (user_id, day, type, workout_count, total_duration, total_calories_burned)
+SELECT user_id, CAST(start_time AS date), COALESCE(type, 'unspecified'),
+       COUNT(*), COALESCE(SUM(duration), 0), COALESCE(SUM(calories_burned), 0)
+FROM workouts
+WHERE user_id IS NOT NULL
+GROUP BY 1, 2, 3;
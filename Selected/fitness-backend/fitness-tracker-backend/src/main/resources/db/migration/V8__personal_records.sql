@@ -0,0 +1,32 @@
+-- Personal records per user and exercise name (trimmed, lower-cased), maintained by
+-- PersonalRecordTracker as exercises are saved and rebuilt on demand by PersonalRecordBackfill.
+-- estimated_one_rep_max is the best single set: Brzycki up to 10 reps, Epley above (they meet at 10).
+CREATE TABLE personal_records (
+    user_id                BIGINT            NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    exercise_name          VARCHAR(255)      NOT NULL,
+    max_weight             DOUBLE PRECISION,
+    reps_at_max_weight     INTEGER,
+    max_reps               INTEGER,
+    weight_at_max_reps     DOUBLE PRECISION,
+    estimated_one_rep_max  DOUBLE PRECISION,
+    longest_duration       INTEGER,          -- in seconds
+    PRIMARY KEY (user_id, exercise_name)
+);
+
+-- Seed from the existing history
+INSERT INTO personal_records (user_id, exercise_name, max_weight, reps_at_max_weight, max_reps,
+                              weight_at_max_reps, estimated_one_rep_max, longest_duration)
+SELECT w.user_id, LOWER(TRIM(e.name)),
+       MAX(e.weight),
+       (ARRAY_AGG(e.reps ORDER BY e.weight DESC, e.reps DESC NULLS LAST) FILTER (WHERE e.weight IS NOT NULL))[1],
+       MAX(e.reps),
+       (ARRAY_AGG(e.weight ORDER BY e.reps DESC, e.weight DESC NULLS LAST) FILTER (WHERE e.reps IS NOT NULL))[1],
+       MAX(CASE WHEN e.weight > 0 AND e.reps > 0 THEN
+               CASE WHEN e.reps <= 10 THEN e.weight * 36 / (37 - e.reps) ELSE e.weight * (1 + e.reps / 30.0) END
+           END),
+       MAX(e.duration)
+FROM exercises e
+JOIN workouts w ON w.id = e.workout_id
+WHERE w.user_id IS NOT NULL
+GROUP BY 1, 2
+HAVING COUNT(e.weight) + COUNT(e.reps) + COUNT(e.duration) > 0;
@@ -0,0 +1,34 @@
+-- Lifted volume (sets x reps x weight, one set when sets is missing) joins the daily rollup,
+-- so a day's training load can be read from user_daily_stats alone.
+ALTER TABLE user_daily_stats ADD COLUMN total_volume DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE user_daily_stats s
+SET total_volume = v.volume
+FROM (SELECT w.user_id, CAST(w.start_time AS date) AS day, COALESCE(w.type, 'unspecified') AS type,
+             SUM(COALESCE(e.sets, 1) * e.reps * e.weight) AS volume
+      FROM workouts w
+      JOIN exercises e ON e.workout_id = w.id
+      WHERE w.user_id IS NOT NULL AND e.reps IS NOT NULL AND e.weight IS NOT NULL
+      GROUP BY 1, 2, 3) v
+WHERE s.user_id = v.user_id AND s.day = v.day AND s.type = v.type;
+
+-- Acute (7-day) and chronic (28-day) exponentially weighted training load per user as of last_day,
+-- maintained by TrainingLoadTracker in the same transaction as the daily rollup and rebuilt with it.
+CREATE TABLE user_training_load (
+    user_id   BIGINT            NOT NULL PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    last_day  DATE              NOT NULL,
+    acute     DOUBLE PRECISION  NOT NULL,
+    chronic   DOUBLE PRECISION  NOT NULL
+);
+
+-- Seed in closed form: each day's load weighted by lambda * (1 - lambda)^(days before last_day),
+-- lambda = 2 / (span + 1); load uses the default app.training-load.* weights (1, 0.1, 0.01)
+INSERT INTO user_training_load (user_id, last_day, acute, chronic)
+SELECT d.user_id, l.last_day,
+       SUM(d.load * 0.25 * POWER(CAST(0.75 AS DOUBLE PRECISION), LEAST(l.last_day - d.day, 2000))),
+       SUM(d.load * (2.0 / 29) * POWER(CAST(27.0 / 29 AS DOUBLE PRECISION), LEAST(l.last_day - d.day, 2000)))
+FROM (SELECT user_id, day, SUM(total_duration + 0.1 * total_calories_burned + 0.01 * total_volume) AS load
+      FROM user_daily_stats
+      GROUP BY 1, 2) d
+JOIN (SELECT user_id, MAX(day) AS last_day FROM user_daily_stats GROUP BY 1) l ON l.user_id = d.user_id
+GROUP BY d.user_id, l.last_day;
@@ -0,0 +1,99 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.Exercise;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares to insert a workout with 20
+ * exercises and 10 goals: pooled sequence ids and JDBC batching should turn
+ * 31 inserts into one batched statement per table plus a few sequence calls.
+ */
+@SpringBootTest
+class BatchedInsertTests {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchedInsertTests.class);
+
+    private static final int EXERCISES = 20;
+    private static final int GOALS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("batched" + suffix, "batched" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void workoutExercisesAndGoalsAreInsertedInBatches() {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            Workout workout = new Workout("Full body", LocalDateTime.now(), user);
+            List<Exercise> exercises = new ArrayList<>();
+            for (int i = 0; i < EXERCISES; i++) {
+                exercises.add(new Exercise("Exercise " + i, "strength", workout));
+            }
+            workout.setExercises(exercises);
+            workoutRepository.save(workout);
+
+            List<Goal> goals = new ArrayList<>();
+            for (int i = 0; i < GOALS; i++) {
+                goals.add(new Goal("Goal " + i, LocalDate.now().plusMonths(3), user));
+            }
+            goalRepository.saveAll(goals);
+        });
+
+        log.info("{} inserts in {} prepared statements",
+                statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + EXERCISES + GOALS);
+        // One INSERT per table, plus at most one nextval per sequence (a pool of 50 ids
+        // may run out part way) and the pooled optimizer's initial fetch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 + 2 * 3);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks If-Match on updates uses strong comparison: only the current strong
+ * tag is accepted, and a weak or stale tag fails the precondition.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalUpdateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    private User user;
+    private Goal goal;
+
+    @BeforeEach
+    void seedGoal() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("ifmatch" + suffix, "ifmatch" + suffix + "@example.com", "password"));
+        goal = goalRepository.save(new Goal("Deadlift " + suffix, LocalDate.now().plusMonths(3), user));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void currentStrongTagIsAccepted() throws Exception {
+        putGoal("\"" + goal.getVersion() + "\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (goal.getVersion() + 1) + "\""));
+    }
+
+    @Test
+    void weakTagFailsThePreconditionEvenWhenItsVersionIsCurrent() throws Exception {
+        putGoal("W/\"" + goal.getVersion() + "\"")
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void staleTagFailsThePrecondition() throws Exception {
+        putGoal("\"" + (goal.getVersion() + 1) + "\"")
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void malformedTagIsRejected() throws Exception {
+        putGoal(String.valueOf(goal.getVersion()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions putGoal(String ifMatch) throws Exception {
+        String body = "{\"title\": \"" + goal.getTitle() + " updated\", \"targetDate\": \"" + goal.getTargetDate()
+                + "\", \"status\": \"active\"}";
+        return mockMvc.perform(put("/api/goals/" + goal.getId())
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.UserDailyStatsRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.DailyStatsBackfill;
+import com.example.fitness_tracker_backend.service.WorkoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keeps the user_daily_stats rollup in step with workout writes and checks the
+ * incrementally maintained rows match a full rebuild from the workouts table.
+ */
+@SpringBootTest
+class DailyStatsRollupTests {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 3, 4, 7, 0);
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private DailyStatsBackfill dailyStatsBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDailyStatsRepository userDailyStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("rollup" + suffix, "rollup" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void createUpdateAndDeleteKeepRollupInStep() {
+        WorkoutDTO run = workoutService.createWorkout(workout("Run", MORNING, "cardio", 30, 250));
+        WorkoutDTO lift = workoutService.createWorkout(workout("Lift", MORNING.plusHours(10), "strength", 45, 200));
+        workoutService.createWorkouts(user.getId(), List.of(
+                workout("Swim", MORNING.plusDays(1), "cardio", 40, 350),
+                workout("Stretch", MORNING.plusDays(1), null, 15, 40)));
+
+        assertThat(rollup()).containsExactly(
+                row("2024-03-04", "cardio", 1, 30, 250),
+                row("2024-03-04", "strength", 1, 45, 200),
+                row("2024-03-05", "cardio", 1, 40, 350),
+                row("2024-03-05", "unspecified", 1, 15, 40));
+
+        // Move the run to the next day; its old row empties and is dropped
+        WorkoutDTO moved = workout("Run", MORNING.plusDays(1), "cardio", 35, 300);
+        moved.setVersion(run.getVersion());
+        workoutService.updateWorkout(run.getId(), moved);
+        workoutService.deleteWorkout(lift.getId());
+
+        List<Map<String, Object>> incremental = rollup();
+        assertThat(incremental).containsExactly(
+                row("2024-03-05", "cardio", 2, 75, 650),
+                row("2024-03-05", "unspecified", 1, 15, 40));
+
+        dailyStatsBackfill.rebuild();
+        assertThat(rollup()).isEqualTo(incremental);
+    }
+
+    @Test
+    void rebuildRestoresRowsLostFromTheRollup() {
+        workoutService.createWorkout(workout("Run", MORNING, "cardio", 30, 250));
+        workoutService.createWorkout(workout("Row", MORNING.plusDays(7), "cardio", 20, 180));
+        List<Map<String, Object>> maintained = rollup();
+
+        jdbcTemplate.update("DELETE FROM user_daily_stats WHERE user_id = ?", user.getId());
+        assertThat(rollup()).isEmpty();
+
+        assertThat(dailyStatsBackfill.rebuild()).isGreaterThanOrEqualTo(maintained.size());
+        assertThat(rollup()).isEqualTo(maintained);
+    }
+
+    @Test
+    void rebuildLeavesUsersCreatedAfterItsLockAlone() {
+        List<Long> locked = new ArrayList<>();
+        Long lateUserId = transactionTemplate.execute(status -> {
+            locked.addAll(userDailyStatsRepository.lockUserRange(user.getId(), Long.MAX_VALUE));
+            // A user signs up and logs a workout while the chunk is being rebuilt
+            Long createdId = CompletableFuture.supplyAsync(() -> {
+                String suffix = Long.toString(System.nanoTime());
+                User late = userRepository.save(new User("late" + suffix, "late" + suffix + "@example.com", "password"));
+                WorkoutDTO run = workout("Run", MORNING, "cardio", 30, 250);
+                run.setUserId(late.getId());
+                workoutService.createWorkout(run);
+                return late.getId();
+            }).join();
+            userDailyStatsRepository.rebuildUsers(locked);
+            return createdId;
+        });
+
+        try {
+            assertThat(locked).contains(user.getId()).doesNotContain(lateUserId);
+            // The late workout's delta is neither wiped nor counted twice
+            assertThat(rollup(lateUserId)).containsExactly(row("2024-03-04", "cardio", 1, 30, 250));
+        } finally {
+            userRepository.deleteById(lateUserId);
+        }
+    }
+
+    private WorkoutDTO workout(String name, LocalDateTime startTime, String type, int duration, int calories) {
+        WorkoutDTO workout = new WorkoutDTO(null, name, startTime);
+        workout.setUserId(user.getId());
+        workout.setType(type);
+        workout.setDuration(duration);
+        workout.setCaloriesBurned(calories);
+        return workout;
+    }
+
+    private List<Map<String, Object>> rollup() {
+        return rollup(user.getId());
+    }
+
+    private List<Map<String, Object>> rollup(Long userId) {
+        return jdbcTemplate.queryForList("SELECT CAST(day AS varchar) AS day, type, workout_count, "
+                + "total_duration, total_calories_burned FROM user_daily_stats WHERE user_id = ? "
+                + "ORDER BY day, type", userId);
+    }
+
+    private static Map<String, Object> row(String day, String type, int count, long duration, long calories) {
+        return Map.of("day", day, "type", type, "workout_count", count,
+                "total_duration", duration, "total_calories_burned", calories);
+    }
+}
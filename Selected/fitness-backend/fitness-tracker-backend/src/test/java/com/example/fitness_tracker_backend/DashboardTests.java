@@ -0,0 +1,150 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the dashboard payload and that serving it costs the same number of
+ * statements whatever the length of the user's history.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DashboardTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> seededUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void removeSeededUsers() {
+        seededUserIds.forEach(userRepository::deleteById);
+        seededUserIds.clear();
+    }
+
+    @Test
+    void dashboardCostDoesNotGrowWithHistory() throws Exception {
+        long shortHistory = countStatements(seedUser(3, 2).getId());
+        long longHistory = countStatements(seedUser(300, 40).getId());
+
+        assertThat(longHistory).isEqualTo(shortHistory);
+        assertThat(longHistory).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void dashboardHasRecentWorkoutsActiveGoalsAndWeeklyTotals() throws Exception {
+        User user = seedUser(20, 5);
+        Goal completed = new Goal("Done already", LocalDate.now().minusDays(1), user);
+        completed.setStatus("completed");
+        goalRepository.save(completed);
+
+        LocalDate weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long workoutsThisWeek = LocalDate.now().toEpochDay() - weekStart.toEpochDay() + 1;
+
+        mockMvc.perform(get("/api/users/" + user.getId() + "/dashboard?workouts=4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recentWorkouts.length()").value(4))
+                .andExpect(jsonPath("$.recentWorkouts[0].name").value("Workout 0"))
+                .andExpect(jsonPath("$.recentWorkouts[3].name").value("Workout 3"))
+                .andExpect(jsonPath("$.activeGoals.length()").value(3))
+                .andExpect(jsonPath("$.activeGoals[0].title").value("Goal 0"))
+                .andExpect(jsonPath("$.weeklyTotals.periodStart").value(weekStart.toString()))
+                .andExpect(jsonPath("$.weeklyTotals.workoutCount").value(workoutsThisWeek))
+                .andExpect(jsonPath("$.weeklyTotals.totalDuration").value(workoutsThisWeek * 30))
+                .andExpect(jsonPath("$.weeklyTotals.totalCaloriesBurned").value(workoutsThisWeek * 200));
+    }
+
+    @Test
+    void goalWithMixedCaseStatusIsStoredLowerCaseAndShownAsActive() throws Exception {
+        User user = seedUser(0, 0);
+        String body = "{\"title\":\"Mixed case\",\"status\":\" Active \",\"targetDate\":\""
+                + LocalDate.now().plusDays(7) + "\",\"userId\":" + user.getId() + "}";
+
+        mockMvc.perform(post("/api/goals").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("active"));
+        mockMvc.perform(get("/api/users/" + user.getId() + "/dashboard"))
+                .andExpect(jsonPath("$.activeGoals.length()").value(1))
+                .andExpect(jsonPath("$.activeGoals[0].title").value("Mixed case"));
+    }
+
+    @Test
+    void unknownUserIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/users/" + Long.MAX_VALUE + "/dashboard")).andExpect(status().isNotFound());
+    }
+
+    private long countStatements(Long userId) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get("/api/users/" + userId + "/dashboard")).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // One workout a day going back from today, at noon; goals due one day apart
+    private User seedUser(int workoutCount, int goalCount) {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("dashboard" + suffix, "dashboard" + suffix + "@example.com", "password"));
+        seededUserIds.add(user.getId());
+
+        List<Workout> workouts = new ArrayList<>();
+        for (int i = 0; i < workoutCount; i++) {
+            Workout workout = new Workout("Workout " + i, LocalDate.now().minusDays(i).atTime(12, 0), user);
+            workout.setDuration(30);
+            workout.setCaloriesBurned(200);
+            workouts.add(workout);
+        }
+        workoutRepository.saveAll(workouts);
+
+        List<Goal> goals = new ArrayList<>();
+        for (int i = 0; i < goalCount; i++) {
+            goals.add(new Goal("Goal " + i, LocalDate.now().plusDays(i + 1), user));
+        }
+        goalRepository.saveAll(goals);
+        return user;
+    }
+}
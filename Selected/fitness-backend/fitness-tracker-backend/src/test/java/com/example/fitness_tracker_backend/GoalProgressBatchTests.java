@@ -0,0 +1,123 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.GoalProgressUpdateDTO;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.GoalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the bulk progress endpoint answers one result per entry in request
+ * order, marking unknown goals and reporting duplicates individually, and that
+ * readers never keep a pre-batch goal cached past the commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class GoalProgressBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("progressbatch" + suffix, "progressbatch" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void resultsFollowRequestOrderWithNotFoundMarkers() throws Exception {
+        Goal squat = seedGoal("Squat");
+        Goal row = seedGoal("Row");
+        String body = "[{\"id\":" + row.getId() + ",\"currentValue\":30},"
+                + "{\"id\":-1,\"currentValue\":10},"
+                + "{\"id\":" + squat.getId() + ",\"currentValue\":100},"
+                + "{\"id\":" + row.getId() + ",\"currentValue\":20}]";
+
+        mockMvc.perform(patch("/api/goals/progress").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].id").value(row.getId()))
+                .andExpect(jsonPath("$[0].goal.currentValue").value(30.0))
+                .andExpect(jsonPath("$[1].id").value(-1))
+                .andExpect(jsonPath("$[1].goal").value(nullValue()))
+                .andExpect(jsonPath("$[1].error").value("Goal not found"))
+                .andExpect(jsonPath("$[2].id").value(squat.getId()))
+                .andExpect(jsonPath("$[2].goal.status").value("completed"))
+                // The duplicate keeps the higher value and reports the same final state
+                .andExpect(jsonPath("$[3].id").value(row.getId()))
+                .andExpect(jsonPath("$[3].goal.currentValue").value(30.0));
+    }
+
+    @Test
+    void entryWithoutValueRejectsTheBatch() throws Exception {
+        String body = "[{\"id\":" + seedGoal("Press").getId() + "}]";
+
+        mockMvc.perform(patch("/api/goals/progress").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void goalCachedByConcurrentReaderDuringBatchIsDroppedAtCommit() throws Exception {
+        Goal goal = seedGoal("Lunge");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            goalService.updateGoalProgressBatch(List.of(new GoalProgressUpdateDTO(goal.getId(), 100.0)));
+            // Another thread still sees the committed row and caches it while the batch is open
+            CompletableFuture.runAsync(() -> assertThat(goalRepository.findById(goal.getId()))
+                    .hasValueSatisfying(cached -> assertThat(cached.getStatus()).isEqualTo("active"))).join();
+        });
+
+        mockMvc.perform(get("/api/goals/" + goal.getId()))
+                .andExpect(jsonPath("$.currentValue").value(100.0))
+                .andExpect(jsonPath("$.status").value("completed"));
+        assertThat(goalRepository.findByUserIdAndStatus(user.getId(), "active")).isEmpty();
+    }
+
+    private Goal seedGoal(String title) {
+        Goal goal = new Goal(title + " " + System.nanoTime(), LocalDate.now().plusMonths(3), user);
+        goal.setTargetValue(100.0);
+        goal.setCurrentValue(0.0);
+        return goalRepository.save(goal);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.GoalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fires many concurrent progress events at one goal and checks that the
+ * atomic UPDATE keeps the highest value without losing any update, and that the
+ * progress endpoint only answers 404 for an unknown goal.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class GoalProgressConcurrencyTests {
+
+    private static final int EVENTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long seededUserId;
+
+    @AfterEach
+    void removeSeededUser() {
+        if (seededUserId != null) {
+            userRepository.deleteById(seededUserId);
+        }
+    }
+
+    @Test
+    void concurrentProgressEventsKeepTheMaximum() throws Exception {
+        Goal goal = seedGoal(1000.0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<GoalDTO>> results = new ArrayList<>();
+        try {
+            for (int i = 1; i <= EVENTS; i++) {
+                double value = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return goalService.updateGoalProgress(goal.getId(), value);
+                }));
+            }
+            start.countDown();
+            for (Future<GoalDTO> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Goal updated = goalRepository.findById(goal.getId()).orElseThrow();
+        assertThat(updated.getCurrentValue()).isEqualTo((double) EVENTS);
+        assertThat(updated.getStatus()).isEqualTo("active");
+    }
+
+    @Test
+    void progressBelowCurrentValueDoesNotRegressAndTargetCompletesGoal() {
+        Goal goal = seedGoal(100.0);
+
+        goalService.updateGoalProgress(goal.getId(), 60.0);
+        GoalDTO lower = goalService.updateGoalProgress(goal.getId(), 40.0);
+        assertThat(lower.getCurrentValue()).isEqualTo(60.0);
+        assertThat(lower.getStatus()).isEqualTo("active");
+
+        GoalDTO reached = goalService.updateGoalProgress(goal.getId(), 100.0);
+        assertThat(reached.getCurrentValue()).isEqualTo(100.0);
+        assertThat(reached.getStatus()).isEqualTo("completed");
+    }
+
+    @Test
+    void progressEndpointRejectsMissingOrNonNumericValue() throws Exception {
+        String url = "/api/goals/" + seedGoal(100.0).getId() + "/progress";
+
+        mockMvc.perform(patch(url).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch(url).contentType(MediaType.APPLICATION_JSON).content("{\"currentValue\":\"lots\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/goals/-1/progress").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentValue\":10}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Goal seedGoal(double targetValue) {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("progress" + suffix, "progress" + suffix + "@example.com", "password"));
+        seededUserId = user.getId();
+
+        Goal goal = new Goal("Bench Press " + suffix, LocalDate.now().plusMonths(3), user);
+        goal.setTargetValue(targetValue);
+        goal.setCurrentValue(0.0);
+        return goalRepository.save(goal);
+    }
+}
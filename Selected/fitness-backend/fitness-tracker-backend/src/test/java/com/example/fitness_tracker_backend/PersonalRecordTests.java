@@ -0,0 +1,157 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
+import com.example.fitness_tracker_backend.dto.PersonalRecordDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.PersonalRecordBackfill;
+import com.example.fitness_tracker_backend.service.PersonalRecordService;
+import com.example.fitness_tracker_backend.service.PersonalRecordTracker;
+import com.example.fitness_tracker_backend.service.WorkoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks personal records follow saved and deleted exercises, match a rebuild from
+ * history, and are served per exercise by primary key.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PersonalRecordTests {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 3, 4, 7, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @Autowired
+    private PersonalRecordBackfill personalRecordBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("records" + suffix, "records" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void oneRepMaxUsesBrzyckiUpToTenRepsAndEpleyAbove() {
+        assertThat(PersonalRecordTracker.estimateOneRepMax(100.0, 1)).isEqualTo(100.0);
+        assertThat(PersonalRecordTracker.estimateOneRepMax(100.0, 10))
+                .isCloseTo(100.0 * (1 + 10 / 30.0), within(1e-9));
+        assertThat(PersonalRecordTracker.estimateOneRepMax(100.0, 15)).isCloseTo(150.0, within(1e-9));
+        assertThat(PersonalRecordTracker.estimateOneRepMax(100.0, 0)).isNull();
+        assertThat(PersonalRecordTracker.estimateOneRepMax(null, 5)).isNull();
+    }
+
+    @Test
+    void recordsFollowSavedExercisesAndAreServedByName() throws Exception {
+        workoutService.createWorkout(workout(MORNING,
+                lift("Bench Press", 80.0, 8), lift("bench press", 90.0, 3), run(1200)));
+        workoutService.createWorkouts(user.getId(), List.of(workout(MORNING.plusDays(2),
+                lift(" BENCH PRESS ", 90.0, 5), lift("Bench Press", 60.0, 15), run(1500))));
+
+        mockMvc.perform(get("/api/users/" + user.getId() + "/personal-records/Bench Press"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exerciseName").value("bench press"))
+                .andExpect(jsonPath("$.maxWeight").value(90.0))
+                .andExpect(jsonPath("$.repsAtMaxWeight").value(5))
+                .andExpect(jsonPath("$.maxReps").value(15))
+                .andExpect(jsonPath("$.weightAtMaxReps").value(60.0))
+                .andExpect(jsonPath("$.longestDuration").doesNotExist());
+        mockMvc.perform(get("/api/users/" + user.getId() + "/personal-records"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].exerciseName").value("run"))
+                .andExpect(jsonPath("$[1].longestDuration").value(1500));
+        mockMvc.perform(get("/api/users/" + user.getId() + "/personal-records/deadlift"))
+                .andExpect(status().isNotFound());
+
+        // 90 kg x 5 beats 60 kg x 15 and 80 kg x 8 on the estimate
+        assertThat(bench().getEstimatedOneRepMax())
+                .isCloseTo(PersonalRecordTracker.estimateOneRepMax(90.0, 5), within(1e-9));
+    }
+
+    @Test
+    void deletingAWorkoutRecomputesItsExercisesAndMatchesRebuild() {
+        workoutService.createWorkout(workout(MORNING, lift("Bench Press", 80.0, 8)));
+        WorkoutDTO best = workoutService.createWorkout(workout(MORNING.plusDays(1),
+                lift("Bench Press", 100.0, 2), run(1800)));
+
+        workoutService.deleteWorkout(best.getId());
+
+        PersonalRecordDTO bench = bench();
+        assertThat(bench.getMaxWeight()).isEqualTo(80.0);
+        assertThat(bench.getRepsAtMaxWeight()).isEqualTo(8);
+        assertThat(personalRecordService.getPersonalRecord(user.getId(), "run")).isEmpty();
+
+        workoutService.createWorkout(workout(MORNING.plusDays(3), lift("Squat", 120.0, 5), run(900)));
+        List<PersonalRecordDTO> incremental = personalRecordService.getPersonalRecords(user.getId());
+
+        personalRecordBackfill.rebuild();
+        List<PersonalRecordDTO> rebuilt = personalRecordService.getPersonalRecords(user.getId());
+        assertThat(rebuilt).usingRecursiveFieldByFieldElementComparatorIgnoringFields("estimatedOneRepMax")
+                .containsExactlyElementsOf(incremental);
+        for (int i = 0; i < rebuilt.size(); i++) {
+            Double estimate = incremental.get(i).getEstimatedOneRepMax();
+            if (estimate != null) {
+                assertThat(rebuilt.get(i).getEstimatedOneRepMax()).isCloseTo(estimate, within(1e-9));
+            }
+        }
+    }
+
+    private PersonalRecordDTO bench() {
+        return personalRecordService.getPersonalRecord(user.getId(), "bench press").orElseThrow();
+    }
+
+    private WorkoutDTO workout(LocalDateTime startTime, ExerciseDTO... exercises) {
+        WorkoutDTO workout = new WorkoutDTO(null, "Session", startTime);
+        workout.setUserId(user.getId());
+        workout.setExercises(List.of(exercises));
+        return workout;
+    }
+
+    private static ExerciseDTO lift(String name, double weight, int reps) {
+        ExerciseDTO exercise = new ExerciseDTO(null, name, "strength");
+        exercise.setSets(1);
+        exercise.setWeight(weight);
+        exercise.setReps(reps);
+        return exercise;
+    }
+
+    private static ExerciseDTO run(int seconds) {
+        ExerciseDTO exercise = new ExerciseDTO(null, "Run", "cardio");
+        exercise.setDuration(seconds);
+        return exercise;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.fitness_tracker_backend;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN against the migrated Postgres schema for the SQL behind each
+ * repository query method and checks that the plan can use an index.
+ * Sequential scans are disabled for the session so the result does not
+ * depend on how much data the local database happens to hold.
+ */
+@SpringBootTest
+class QueryIndexUsageTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("UserRepository.findByUsername",
+                        "SELECT * FROM users WHERE username = 'querycheck'"),
+                Arguments.of("UserRepository.findByEmail",
+                        "SELECT * FROM users WHERE email = 'querycheck@example.com'"),
+                Arguments.of("WorkoutRepository.findByUserId",
+                        "SELECT * FROM workouts WHERE user_id = 1"),
+                Arguments.of("WorkoutRepository.findByUserIdAndStartTimeBetween",
+                        "SELECT * FROM workouts WHERE user_id = 1 "
+                                + "AND start_time BETWEEN '2024-01-01 00:00' AND '2024-12-31 23:59'"),
+                Arguments.of("WorkoutRepository.findByUserIdAndType",
+                        "SELECT * FROM workouts WHERE user_id = 1 AND type = 'strength'"),
+                Arguments.of("WorkoutRepository.findPageByUserIdAfter",
+                        "SELECT * FROM workouts WHERE user_id = 1 "
+                                + "AND (start_time < '2024-06-01 00:00' OR (start_time = '2024-06-01 00:00' AND id < 100)) "
+                                + "ORDER BY start_time DESC, id DESC LIMIT 21"),
+                Arguments.of("UserDailyStatsRepository.aggregateByBucket",
+                        "SELECT CAST(date_trunc('week', day) AS date), type, SUM(workout_count), "
+                                + "SUM(total_duration), SUM(total_calories_burned) FROM user_daily_stats "
+                                + "WHERE user_id = 1 AND day >= '2020-01-01' AND day <= '2024-12-31' "
+                                + "GROUP BY 1, 2 ORDER BY 1, 2"),
+                Arguments.of("PersonalRecordRepository.findByUserIdAndExerciseName",
+                        "SELECT * FROM personal_records WHERE user_id = 1 AND exercise_name = 'bench press'"),
+                Arguments.of("Workout.exercises batch load",
+                        "SELECT * FROM exercises WHERE workout_id = ANY('{1,2,3}'::bigint[])"),
+                Arguments.of("GoalRepository.findByUserId",
+                        "SELECT * FROM goals WHERE user_id = 1"),
+                Arguments.of("GoalRepository.findByUserIdAndStatus",
+                        "SELECT * FROM goals WHERE user_id = 1 AND status = 'active'"),
+                Arguments.of("GoalRepository.findByUserIdAndCategory",
+                        "SELECT * FROM goals WHERE user_id = 1 AND category = 'strength'")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryPlanUsesIndex(String queryMethod, String sql) {
+        assertThat(explain(sql))
+                .as("plan for %s", queryMethod)
+                .contains("Index")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void loginLookupUsesUniqueEmailIndex() {
+        // UserRepository.findCredentialsByEmail, the closed projection behind POST /api/users/login
+        String plan = explain("SELECT id, username, email, password, first_name, last_name "
+                + "FROM users WHERE email = 'querycheck@example.com'");
+
+        assertThat(plan)
+                .contains("Index Scan using uk_users_email on users")
+                .doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql) {
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        });
+        return String.join("\n", plan);
+    }
+}
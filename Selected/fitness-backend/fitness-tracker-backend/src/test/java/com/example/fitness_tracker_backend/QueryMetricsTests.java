@@ -0,0 +1,109 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the metrics surface: pool and Hibernate meters are registered, requests are
+ * recorded per endpoint, and slow statements are logged with their service method.
+ * The slow-query threshold is zero so every statement counts as slow.
+ */
+@SpringBootTest(properties = "app.db.slow-query-threshold=0ms")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsTests {
+
+    private static final String USER_WORKOUTS = "/api/workouts/user/{userId}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long seededUserId;
+
+    @AfterEach
+    void removeSeededUser() {
+        if (seededUserId != null) {
+            userRepository.deleteById(seededUserId);
+        }
+    }
+
+    @Test
+    void poolAndHibernateMetricsAreRegistered() throws Exception {
+        mockMvc.perform(get("/api/goals")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").functionCounters()).isNotEmpty();
+    }
+
+    @Test
+    void statementsAndTimeAreRecordedPerEndpoint(CapturedOutput output) throws Exception {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("metrics" + suffix, "metrics" + suffix + "@example.com", "password"));
+        seededUserId = user.getId();
+
+        mockMvc.perform(get("/api/workouts/user/" + user.getId())).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("app.db.statements")
+                .tags("method", "GET", "uri", USER_WORKOUTS).summary();
+        Timer time = meterRegistry.find("app.db.time").tags("method", "GET", "uri", USER_WORKOUTS).timer();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isGreaterThanOrEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(time).isNotNull();
+        assertThat(time.count()).isGreaterThanOrEqualTo(1);
+
+        assertThat(output).contains("Slow query").contains("from WorkoutServiceImpl.getWorkoutsByUserId");
+    }
+
+    @Test
+    void asyncExportStatementsAreRecordedForItsEndpoint() throws Exception {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("metrics" + suffix, "metrics" + suffix + "@example.com", "password"));
+        seededUserId = user.getId();
+        DistributionSummary before = exportStatements();
+        long exportsBefore = before != null ? before.count() : 0;
+        double statementsBefore = before != null ? before.totalAmount() : 0;
+
+        MvcResult result = mockMvc.perform(get("/api/workouts/user/" + user.getId() + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // One sample for the whole request, counting the query the streaming body ran on the executor
+        DistributionSummary after = exportStatements();
+        assertThat(after).isNotNull();
+        assertThat(after.count()).isEqualTo(exportsBefore + 1);
+        assertThat(after.totalAmount() - statementsBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    private DistributionSummary exportStatements() {
+        return meterRegistry.find("app.db.statements").tags("method", "GET", "uri", USER_WORKOUTS + "/export").summary();
+    }
+}
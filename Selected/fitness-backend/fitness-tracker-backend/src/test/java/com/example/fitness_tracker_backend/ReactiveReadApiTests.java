@@ -0,0 +1,125 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.GoalDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.Exercise;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.netty.DisposableServer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams workouts and goals from the reactive server and checks they carry the
+ * same DTO shapes as the servlet endpoints.
+ */
+@SpringBootTest
+class ReactiveReadApiTests {
+
+    @Autowired
+    private DisposableServer reactiveReadServer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    private WebTestClient client;
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.port()).build();
+
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("reactive" + suffix, "reactive" + suffix + "@example.com", "password"));
+
+        List<Workout> workouts = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Workout workout = new Workout("Workout " + i, LocalDateTime.now().minusDays(i), user);
+            List<Exercise> exercises = new ArrayList<>();
+            // Every third workout has no exercises
+            for (int j = 0; j < i % 3; j++) {
+                exercises.add(new Exercise("Exercise " + j, "strength", workout));
+            }
+            workout.setExercises(exercises);
+            workouts.add(workout);
+        }
+        workoutRepository.saveAll(workouts);
+
+        Goal active = new Goal("Run 5k", LocalDate.now().plusMonths(1), user);
+        Goal completed = new Goal("Run 1k", LocalDate.now().plusMonths(1), user);
+        completed.setStatus("completed");
+        goalRepository.saveAll(List.of(active, completed));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void workoutHistoryStreamsNewestFirstWithExercises() {
+        List<WorkoutDTO> workouts = client.get().uri("/api/reactive/workouts/user/{userId}", user.getId())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(WorkoutDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(workouts).hasSize(30);
+        assertThat(workouts).extracting(WorkoutDTO::getName).startsWith("Workout 0", "Workout 1", "Workout 2");
+        for (int i = 0; i < workouts.size(); i++) {
+            assertThat(workouts.get(i).getExercises()).hasSize(i % 3);
+            assertThat(workouts.get(i).getUserId()).isEqualTo(user.getId());
+        }
+    }
+
+    @Test
+    void goalsStreamWithOptionalStatusFilter() {
+        List<GoalDTO> all = client.get().uri("/api/reactive/goals/user/{userId}", user.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(GoalDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        List<GoalDTO> active = client.get().uri("/api/reactive/goals/user/{userId}?status=active", user.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(GoalDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(all).extracting(GoalDTO::getTitle).containsExactly("Run 5k", "Run 1k");
+        assertThat(active).extracting(GoalDTO::getTitle).containsExactly("Run 5k");
+    }
+
+    @Test
+    void nonNumericUserIdIsRejected() {
+        client.get().uri("/api/reactive/workouts/user/abc").exchange().expectStatus().isBadRequest();
+    }
+}
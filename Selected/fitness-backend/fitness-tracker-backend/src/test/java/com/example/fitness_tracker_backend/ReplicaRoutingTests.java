@@ -0,0 +1,208 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.config.ReadYourWritesFilter;
+import com.example.fitness_tracker_backend.config.ReplicaRoutingDataSource;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routes read-only transactions through a stand-in replica: the local Postgres
+ * reached under a second URL whose application_name identifies the pool.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.urls=jdbc:postgresql://localhost:5432/fitnessdb?ApplicationName=replica-stand-in",
+        "app.datasource.replica.lag-check-interval=100ms"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTests {
+
+    private static final String REPLICA = "replica-stand-in";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactionsGoToReplica() throws Exception {
+        assertThat(awaitReplicaRead()).isTrue();
+    }
+
+    @Test
+    void replicaPoolPublishesHikariMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "replica-1").timer()).isNotNull();
+    }
+
+    @Test
+    void readWriteTransactionsStayOnPrimary() {
+        assertThat(applicationName(false)).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void pinnedRequestsReadTheirWritesFromPrimary() throws Exception {
+        assertThat(awaitReplicaRead()).isTrue();
+
+        ReplicaRoutingDataSource.setPrimaryPinned(true);
+        try {
+            assertThat(applicationName(true)).isNotEqualTo(REPLICA);
+        } finally {
+            ReplicaRoutingDataSource.setPrimaryPinned(false);
+        }
+    }
+
+    @Test
+    void writeRequestsMarkTheClientForPrimaryReads() throws Exception {
+        mockMvc.perform(patch("/api/goals/progress").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE));
+
+        mockMvc.perform(get("/api/goals"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE));
+    }
+
+    @Test
+    void asyncRequestWorkKeepsThePrimaryPin() throws Exception {
+        assertThat(awaitReplicaRead()).isTrue();
+
+        ReplicaRoutingDataSource.setPrimaryPinned(true);
+        try {
+            assertThat(applicationTaskExecutor.submit(() -> applicationName(true)).get()).isNotEqualTo(REPLICA);
+        } finally {
+            ReplicaRoutingDataSource.setPrimaryPinned(false);
+        }
+        assertThat(applicationTaskExecutor.submit(() -> applicationName(true)).get()).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void crossOriginClientsMaySendTheCookieBack() throws Exception {
+        mockMvc.perform(options("/api/goals/progress")
+                        .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true"));
+
+        mockMvc.perform(get("/api/goals")
+                        .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                        .cookie(new Cookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE,
+                                Long.toString(System.currentTimeMillis() + 60_000))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true"));
+    }
+
+    @Test
+    void replicaReadsDoNotPopulateTheSecondLevelOrQueryCache() throws Exception {
+        assertThat(awaitReplicaRead()).isTrue();
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("replica" + suffix, "replica" + suffix + "@example.com", "password"));
+        Goal goal = goalRepository.save(new Goal("Bench " + suffix, LocalDate.now().plusMonths(3), user));
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Cache cache = sessionFactory.getCache();
+        Statistics statistics = sessionFactory.getStatistics();
+
+        try {
+            cache.evictEntityData(Goal.class, goal.getId());
+            cache.evictQueryRegion(GoalRepository.GOALS_BY_USER_REGION);
+            statistics.clear();
+
+            // A lagging replica's rows must not outlive the eviction that follows a write on the primary
+            assertThat(readGoalAndActiveGoals(goal)).isEqualTo(REPLICA);
+            assertThat(cache.containsEntity(Goal.class, goal.getId())).isFalse();
+            assertThat(statistics.getQueryCachePutCount()).isZero();
+
+            ReplicaRoutingDataSource.setPrimaryPinned(true);
+            try {
+                assertThat(readGoalAndActiveGoals(goal)).isNotEqualTo(REPLICA);
+            } finally {
+                ReplicaRoutingDataSource.setPrimaryPinned(false);
+            }
+            assertThat(cache.containsEntity(Goal.class, goal.getId())).isTrue();
+            assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+
+            // Replica reads still look entities up in the cache
+            long hits = statistics.getSecondLevelCacheHitCount();
+            readGoalAndActiveGoals(goal);
+            assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+        } finally {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    // The lag monitor routes to the primary until its first check has passed
+    private boolean awaitReplicaRead() throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            if (REPLICA.equals(applicationName(true))) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    // Reads like a @Transactional(readOnly = true) service method; returns where it was served from
+    private String readGoalAndActiveGoals(Goal goal) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> {
+            assertThat(goalRepository.findById(goal.getId())).isPresent();
+            assertThat(goalRepository.findByUserIdAndStatus(goal.getUser().getId(), "active")).hasSize(1);
+            return jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+        });
+    }
+
+    private String applicationName(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.GoalProgressResultDTO;
+import com.example.fitness_tracker_backend.dto.GoalProgressUpdateDTO;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.GoalService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmarks the JDBC statements per request with the second-level cache cold
+ * (every region evicted before each request) against a warm cache, and checks
+ * that writes outside Hibernate still invalidate cached goals.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecondLevelCacheTests {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheTests.class);
+
+    private static final int REQUESTS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Long seededUserId;
+
+    @BeforeEach
+    void enableStatistics() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        if (seededUserId != null) {
+            userRepository.deleteById(seededUserId);
+        }
+    }
+
+    @Test
+    void workoutCreateReadsOwnerAndActiveGoalsFromCache() throws Exception {
+        Goal goal = seedGoal("Rowing");
+        String body = "{\"name\":\"Evening session\",\"type\":\"cardio\",\"startTime\":\""
+                + LocalDateTime.now().withNano(0) + "\",\"userId\":" + goal.getUser().getId() + "}";
+        RequestBuilder request = post("/api/workouts").contentType(MediaType.APPLICATION_JSON).content(body);
+
+        double cold = statementsPerRequest(request, true);
+        double warm = statementsPerRequest(request, false);
+
+        log.info("POST /api/workouts statements/request: cold={} warm={}", cold, warm);
+        // Owner lookup and active-goal query no longer reach the database
+        assertThat(warm).isLessThanOrEqualTo(cold - 2);
+    }
+
+    @Test
+    void goalByIdIsServedFromCache() throws Exception {
+        Goal goal = seedGoal("Squat");
+        RequestBuilder request = get("/api/goals/" + goal.getId());
+
+        double cold = statementsPerRequest(request, true);
+        double warm = statementsPerRequest(request, false);
+
+        log.info("GET /api/goals/{id} statements/request: cold={} warm={}", cold, warm);
+        assertThat(warm).isLessThan(cold);
+        assertThat(warm).isZero();
+    }
+
+    @Test
+    void nativeProgressUpdatesInvalidateCachedGoal() throws Exception {
+        Goal goal = seedGoal("Deadlift");
+        String url = "/api/goals/" + goal.getId();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        assertThat(goalRepository.findByUserIdAndStatus(goal.getUser().getId(), "active")).hasSize(1);
+
+        goalService.updateGoalProgress(goal.getId(), 40.0);
+        mockMvc.perform(get(url)).andExpect(jsonPath("$.currentValue").value(40.0));
+
+        List<GoalProgressResultDTO> updated = goalService.updateGoalProgressBatch(
+                List.of(new GoalProgressUpdateDTO(goal.getId(), 100.0)));
+        assertThat(updated).extracting(result -> result.getGoal().getStatus()).containsExactly("completed");
+        mockMvc.perform(get(url))
+                .andExpect(jsonPath("$.currentValue").value(100.0))
+                .andExpect(jsonPath("$.status").value("completed"));
+        // The per-user active goal query must not return the completed goal from cache
+        assertThat(goalRepository.findByUserIdAndStatus(goal.getUser().getId(), "active")).isEmpty();
+    }
+
+    @Test
+    void goalCachedByConcurrentReaderDuringProgressWriteIsDroppedAtCommit() throws Exception {
+        Goal goal = seedGoal("Clean");
+        String url = "/api/goals/" + goal.getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            goalService.updateGoalProgress(goal.getId(), 40.0);
+            // Another thread still sees the committed row and caches it while the write is open
+            CompletableFuture.runAsync(() -> assertThat(goalRepository.findById(goal.getId()))
+                    .hasValueSatisfying(cached -> assertThat(cached.getCurrentValue()).isZero())).join();
+        });
+
+        mockMvc.perform(get(url)).andExpect(jsonPath("$.currentValue").value(40.0));
+    }
+
+    private double statementsPerRequest(RequestBuilder request, boolean coldCache) throws Exception {
+        // Prime the cache and the id pool once so neither skews the first measured request
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long statements = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            if (coldCache) {
+                sessionFactory.getCache().evictAllRegions();
+            }
+            statistics.clear();
+            mockMvc.perform(request).andExpect(status().isOk());
+            statements += statistics.getPrepareStatementCount();
+        }
+        return (double) statements / REQUESTS;
+    }
+
+    private Goal seedGoal(String title) {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("cache" + suffix, "cache" + suffix + "@example.com", "password"));
+        seededUserId = user.getId();
+
+        Goal goal = new Goal(title + " " + suffix, LocalDate.now().plusMonths(3), user);
+        goal.setTargetValue(100.0);
+        goal.setCurrentValue(0.0);
+        return goalRepository.save(goal);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.ExerciseDTO;
+import com.example.fitness_tracker_backend.dto.TrainingLoadDTO;
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.TrainingLoadRepository;
+import com.example.fitness_tracker_backend.repository.TrainingLoadState;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.DailyStatsBackfill;
+import com.example.fitness_tracker_backend.service.TrainingLoadService;
+import com.example.fitness_tracker_backend.service.WorkoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the incrementally maintained acute and chronic loads against a day-by-day
+ * replay of the same workouts, against a rebuild, and through the endpoints.
+ * Loads use the default weights: minutes + 0.1 x calories + 0.01 x kg lifted.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingLoadTests {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final double ACUTE = 2.0 / 8;
+    private static final double CHRONIC = 2.0 / 29;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private TrainingLoadService trainingLoadService;
+
+    @Autowired
+    private TrainingLoadRepository trainingLoadRepository;
+
+    @Autowired
+    private DailyStatsBackfill dailyStatsBackfill;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("load" + suffix, "load" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void backdatedAndDeletedWorkoutsMatchDailyReplayAndRebuild() {
+        workoutService.createWorkout(workout(FIRST_DAY, 60, 500));
+        WorkoutDTO dropped = workoutService.createWorkout(workout(FIRST_DAY.plusDays(9), 90, 800));
+        workoutService.createWorkout(workout(FIRST_DAY.plusDays(20), 30, 200));
+        // Backdated, with 3 x 5 x 100 kg lifted
+        WorkoutDTO lifting = workout(FIRST_DAY.plusDays(4), 45, 250);
+        ExerciseDTO squat = new ExerciseDTO(null, "Squat", "strength");
+        squat.setSets(3);
+        squat.setReps(5);
+        squat.setWeight(100.0);
+        lifting.setExercises(List.of(squat));
+        workoutService.createWorkout(lifting);
+        workoutService.deleteWorkout(dropped.getId());
+
+        Map<LocalDate, Double> loads = Map.of(
+                FIRST_DAY, 60 + 50.0,
+                FIRST_DAY.plusDays(4), 45 + 25 + 15.0,
+                FIRST_DAY.plusDays(20), 30 + 20.0);
+        LocalDate lastDay = FIRST_DAY.plusDays(20);
+        double[] expected = replay(loads, lastDay);
+
+        TrainingLoadState incremental = trainingLoadRepository.findByUserId(user.getId()).orElseThrow();
+        assertThat(incremental.lastDay()).isEqualTo(lastDay);
+        assertThat(incremental.acute()).isCloseTo(expected[0], within(1e-9));
+        assertThat(incremental.chronic()).isCloseTo(expected[1], within(1e-9));
+
+        List<TrainingLoadDTO> series = trainingLoadService.getLoadSeries(user.getId(), FIRST_DAY, lastDay);
+        assertThat(series).hasSize(21);
+        assertThat(series.get(4).getLoad()).isCloseTo(85.0, within(1e-9));
+        assertThat(series.get(9).getLoad()).isZero();
+        assertThat(series.get(20).getAcuteLoad()).isCloseTo(expected[0], within(1e-9));
+        assertThat(series.get(20).getChronicLoad()).isCloseTo(expected[1], within(1e-9));
+        assertThat(series.get(20).getAcuteChronicRatio()).isCloseTo(expected[0] / expected[1], within(1e-9));
+
+        dailyStatsBackfill.rebuild();
+        TrainingLoadState rebuilt = trainingLoadRepository.findByUserId(user.getId()).orElseThrow();
+        assertThat(rebuilt.lastDay()).isEqualTo(lastDay);
+        assertThat(rebuilt.acute()).isCloseTo(expected[0], within(1e-9));
+        assertThat(rebuilt.chronic()).isCloseTo(expected[1], within(1e-9));
+    }
+
+    @Test
+    void seriesRevalidatesAndRejectsBadRanges() throws Exception {
+        workoutService.createWorkout(workout(LocalDate.now().minusDays(2), 40, 300));
+        String url = "/api/users/" + user.getId() + "/training-load/series";
+
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(28))
+                .andExpect(jsonPath("$[25].load").value(70.0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+
+        mockMvc.perform(get(url + "?from=2024-02-01&to=2024-01-01")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url + "?from=2000-01-01&to=2024-01-01")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void currentLoadDecaysThroughRestDays() throws Exception {
+        mockMvc.perform(get("/api/users/" + user.getId() + "/training-load"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acuteLoad").value(0.0))
+                .andExpect(jsonPath("$.acuteChronicRatio").doesNotExist());
+        mockMvc.perform(get("/api/users/" + Long.MAX_VALUE + "/training-load")).andExpect(status().isNotFound());
+
+        LocalDate today = LocalDate.now();
+        workoutService.createWorkout(workout(today.minusDays(3), 60, 0));
+        double[] expected = replay(Map.of(today.minusDays(3), 60.0), today);
+
+        TrainingLoadDTO current = trainingLoadService.getCurrentLoad(user.getId()).orElseThrow();
+        assertThat(current.getDay()).isEqualTo(today);
+        assertThat(current.getAcuteLoad()).isCloseTo(expected[0], within(1e-9));
+        assertThat(current.getChronicLoad()).isCloseTo(expected[1], within(1e-9));
+    }
+
+    // Day-by-day EWMA from zero, ending on lastDay
+    private static double[] replay(Map<LocalDate, Double> loads, LocalDate lastDay) {
+        LocalDate first = loads.keySet().stream().min(LocalDate::compareTo).orElseThrow();
+        double acute = 0;
+        double chronic = 0;
+        for (LocalDate day = first; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            double load = loads.getOrDefault(day, 0.0);
+            acute = ACUTE * load + (1 - ACUTE) * acute;
+            chronic = CHRONIC * load + (1 - CHRONIC) * chronic;
+        }
+        return new double[] {acute, chronic};
+    }
+
+    private WorkoutDTO workout(LocalDate day, int minutes, int calories) {
+        WorkoutDTO workout = new WorkoutDTO(null, "Session " + day, day.atTime(18, 0));
+        workout.setUserId(user.getId());
+        workout.setDuration(minutes);
+        workout.setCaloriesBurned(calories);
+        return workout;
+    }
+}
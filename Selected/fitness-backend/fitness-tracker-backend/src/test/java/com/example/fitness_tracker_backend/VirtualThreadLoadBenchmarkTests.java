@@ -0,0 +1,198 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark for the two request execution modes under induced database latency:
+ * the default platform thread pool and the virtual-threads profile.
+ * Each mode runs in its own application on a random port; every JDBC statement is
+ * delayed while the load runs, and throughput and p99 latency are logged side by side.
+ * Tagged "benchmark": excluded from the test task, run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadBenchmarkTests.class);
+
+    private static final long INDUCED_LATENCY_MILLIS = 20;
+    private static final int CONCURRENT_CLIENTS = 200;
+    private static final int REQUESTS = 1000;
+    private static final double MIN_THROUGHPUT_RATIO = 0.9;
+    private static final double MAX_P99_RATIO = 1.1;
+
+    // Off while the application starts and seeds, so only the measured requests are slowed
+    private static volatile boolean latencyInduced;
+
+    @Test
+    void virtualThreadsKeepUpWithPlatformThreadsUnderSlowDatabase() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("Induced DB latency {} ms, {} clients, {} requests",
+                INDUCED_LATENCY_MILLIS, CONCURRENT_CLIENTS, REQUESTS);
+        log.info("platform threads: {} req/s, p99 {} ms, failed {}",
+                Math.round(platform.throughput), platform.p99Millis, platform.failed);
+        log.info("virtual threads:  {} req/s, p99 {} ms, failed {}",
+                Math.round(virtual.throughput), virtual.p99Millis, virtual.failed);
+
+        assertThat(platform.failed).isZero();
+        assertThat(virtual.failed).isZero();
+        // The virtual-threads profile must not cost throughput, nor tail latency beyond noise
+        assertThat(virtual.throughput).isGreaterThanOrEqualTo(platform.throughput * MIN_THROUGHPUT_RATIO);
+        assertThat(virtual.p99Millis).isLessThanOrEqualTo(Math.round(platform.p99Millis * MAX_P99_RATIO));
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(
+                FitnessTrackerBackendApplication.class, InducedLatencyConfig.class);
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+
+        // Passed as arguments so they override application.properties. Each run closes its application,
+        // which must not close the JCache manager shared with the cached test contexts; SQL logging
+        // would otherwise dominate the measurement
+        try (ConfigurableApplicationContext context = builder.run("--server.port=0", "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false")) {
+            User user = seedUser(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/workouts/user/" + user.getId() + "?limit=20");
+            try {
+                latencyInduced = true;
+                return load(uri);
+            } finally {
+                latencyInduced = false;
+                context.getBean(UserRepository.class).deleteById(user.getId());
+            }
+        }
+    }
+
+    private Result load(URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long[] latencies = new long[REQUESTS];
+        int failed = 0;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clients).build()) {
+            Semaphore inFlight = new Semaphore(CONCURRENT_CLIENTS);
+            List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                responses.add(clients.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies[index] = System.nanoTime() - sent;
+                        return status;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<Integer> response : responses) {
+                try {
+                    if (response.get() != 200) {
+                        failed++;
+                    }
+                } catch (ExecutionException e) {
+                    failed++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            long p99 = latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000;
+            return new Result(REQUESTS / seconds, p99, failed);
+        }
+    }
+
+    private User seedUser(ConfigurableApplicationContext context) {
+        String suffix = Long.toString(System.nanoTime());
+        User user = context.getBean(UserRepository.class)
+                .save(new User("load" + suffix, "load" + suffix + "@example.com", "password"));
+        List<Workout> workouts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            workouts.add(new Workout("Workout " + i, LocalDateTime.now().minusDays(i), user));
+        }
+        context.getBean(WorkoutRepository.class).saveAll(workouts);
+        return user;
+    }
+
+    private record Result(double throughput, long p99Millis, int failed) {}
+
+    /**
+     * Delays every statement on the application DataSource while latency is induced,
+     * holding the connection the way a slow query would
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class InducedLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor inducedLatencyDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(new InducedLatency()).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static class InducedLatency implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (latencyInduced) {
+                try {
+                    Thread.sleep(INDUCED_LATENCY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the batch upload reports malformed workouts per item instead of
+ * rejecting the whole batch, and only answers 404 for an unknown owner.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkoutBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("batch" + suffix, "batch" + suffix + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void malformedStartTimeIsReportedForThatItemOnly() throws Exception {
+        String body = "{\"userId\": " + user.getId() + ", \"workouts\": ["
+                + "{\"name\": \"Run\", \"startTime\": \"2024-03-04T07:00:00Z\"},"
+                + "{\"name\": \"Swim\", \"startTime\": \"yesterday\"},"
+                + "{\"startTime\": \"2024-03-05T07:00:00\"}]}";
+
+        mockMvc.perform(post("/api/workouts/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.items[0].index").value(0))
+                .andExpect(jsonPath("$.items[0].error").value(nullValue()))
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].error").value("Workout startTime is not a valid ISO-8601 date-time"))
+                .andExpect(jsonPath("$.items[2].error").value("Workout name is required"));
+    }
+
+    @Test
+    void unknownOwnerIsNotFound() throws Exception {
+        String body = "{\"userId\": -1, \"workouts\": [{\"name\": \"Run\", \"startTime\": \"2024-03-04T07:00:00\"}]}";
+
+        mockMvc.perform(post("/api/workouts/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.model.Exercise;
+import com.example.fitness_tracker_backend.model.Goal;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.model.Workout;
+import com.example.fitness_tracker_backend.repository.GoalRepository;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.repository.WorkoutRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the workout read endpoints against N+1 queries by counting the
+ * JDBC statements Hibernate prepares while serving each request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkoutQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> seededUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void removeSeededUsers() {
+        seededUserIds.forEach(userRepository::deleteById);
+        seededUserIds.clear();
+    }
+
+    @Test
+    void userWorkoutListingCostIsIndependentOfWorkoutCount() throws Exception {
+        long fewWorkouts = countStatements("/api/workouts/user/" + seedUser(2).getId() + "?limit=50");
+        long manyWorkouts = countStatements("/api/workouts/user/" + seedUser(40).getId() + "?limit=50");
+
+        assertThat(manyWorkouts).isEqualTo(fewWorkouts);
+        // ETag lookup, page query and one batched exercise query
+        assertThat(manyWorkouts).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void workoutListingLoadsExercisesInOneBatch() throws Exception {
+        seedUser(40);
+
+        assertThat(countStatements("/api/workouts?limit=50")).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void workoutByIdFetchesExercisesWithSingleStatement() throws Exception {
+        User user = seedUser(1);
+        Long workoutId = workoutRepository.findByUserId(user.getId()).get(0).getId();
+
+        assertThat(countStatements("/api/workouts/" + workoutId)).isEqualTo(1);
+    }
+
+    @Test
+    void unchangedUserWorkoutListingIsAnsweredWithoutLoadingWorkouts() throws Exception {
+        User user = seedUser(40);
+        String url = "/api/workouts/user/" + user.getId() + "?limit=50";
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        // Only the change stamp lookup
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        workoutRepository.save(new Workout("New workout", LocalDateTime.now(), user));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void userProfileEmbedsOnlyRecentWorkouts() throws Exception {
+        long fewWorkouts = countStatements("/api/users/" + seedUser(2).getId());
+        User user = seedUser(40);
+        long manyWorkouts = countStatements("/api/users/" + user.getId());
+
+        assertThat(manyWorkouts).isEqualTo(fewWorkouts);
+        mockMvc.perform(get("/api/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts.length()").value(20))
+                .andExpect(jsonPath("$.workouts[0].name").value("Workout 0"))
+                .andExpect(jsonPath("$.workouts[0].exercises").doesNotExist());
+    }
+
+    @Test
+    void userProfileKeepsActiveGoalsOlderThanTheNewestSlice() throws Exception {
+        User user = seedUser(0);
+        Goal oldActive = goalRepository.save(new Goal("Old active", LocalDate.now().plusMonths(6), user));
+        List<Goal> newer = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Goal goal = new Goal("Done " + i, LocalDate.now().minusDays(1), user);
+            goal.setStatus("completed");
+            newer.add(goal);
+        }
+        goalRepository.saveAll(newer);
+
+        mockMvc.perform(get("/api/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.goals.length()").value(101))
+                .andExpect(jsonPath("$.goals[100].id").value(oldActive.getId()))
+                .andExpect(jsonPath("$.goals[100].status").value("active"));
+    }
+
+    @Test
+    void userExportLoadsExercisesPerChunkNotPerWorkout() throws Exception {
+        long fewWorkouts = countExportStatements(seedUser(2));
+        User user = seedUser(40);
+        long manyWorkouts = countExportStatements(user);
+
+        assertThat(manyWorkouts).isEqualTo(fewWorkouts);
+        // Streamed workout query and one exercise query for the chunk
+        assertThat(manyWorkouts).isLessThanOrEqualTo(2);
+
+        String[] lines = export(user).split("\n");
+        assertThat(lines).hasSize(40);
+        assertThat(lines[0]).contains("\"name\":\"Workout 39\"").contains("\"name\":\"Exercise 2\"");
+    }
+
+    private long countExportStatements(User user) throws Exception {
+        statistics.clear();
+        export(user);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // The export streams from the async executor; dispatch back to collect the body
+    private String export(User user) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/workouts/user/" + user.getId() + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private long countStatements(String url) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User seedUser(int workoutCount) {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(new User("querycount" + suffix, "querycount" + suffix + "@example.com", "password"));
+        seededUserIds.add(user.getId());
+
+        List<Workout> workouts = new ArrayList<>();
+        for (int i = 0; i < workoutCount; i++) {
+            Workout workout = new Workout("Workout " + i, LocalDateTime.now().minusDays(i), user);
+            List<Exercise> exercises = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                Exercise exercise = new Exercise("Exercise " + j, "strength", workout);
+                exercise.setSets(3);
+                exercise.setReps(10);
+                exercises.add(exercise);
+            }
+            workout.setExercises(exercises);
+            workouts.add(workout);
+        }
+        workoutRepository.saveAll(workouts);
+        return user;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.fitness_tracker_backend;
+
+import com.example.fitness_tracker_backend.dto.WorkoutDTO;
+import com.example.fitness_tracker_backend.model.User;
+import com.example.fitness_tracker_backend.repository.UserRepository;
+import com.example.fitness_tracker_backend.service.WorkoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmarks the workout statistics endpoint over a five-year history of one
+ * workout a day, and checks the rollups against the seeded data.
+ * Workouts go through the batch service so the daily rollup is maintained as in production.
+ * Tagged "benchmark": excluded from the test task, run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+class WorkoutStatsBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkoutStatsBenchmarkTests.class);
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2024, 12, 31);
+    private static final String[] TYPES = {"cardio", "strength", "flexibility"};
+    private static final int RUNS = 20;
+    private static final int SEED_BATCH_SIZE = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    private User user;
+    private int workoutCount;
+
+    @BeforeEach
+    void seedFiveYearHistory() {
+        String suffix = Long.toString(System.nanoTime());
+        user = userRepository.save(new User("stats" + suffix, "stats" + suffix + "@example.com", "password"));
+
+        List<WorkoutDTO> workouts = new ArrayList<>();
+        for (LocalDate day = FIRST_DAY; !day.isAfter(LAST_DAY); day = day.plusDays(1)) {
+            WorkoutDTO workout = new WorkoutDTO(null, "Workout " + day, day.atTime(7, 30));
+            workout.setType(TYPES[(int) (day.toEpochDay() % TYPES.length)]);
+            workout.setDuration(45);
+            workout.setCaloriesBurned(300);
+            workouts.add(workout);
+        }
+        for (int from = 0; from < workouts.size(); from += SEED_BATCH_SIZE) {
+            workoutService.createWorkouts(user.getId(),
+                    workouts.subList(from, Math.min(from + SEED_BATCH_SIZE, workouts.size())));
+        }
+        workoutCount = workouts.size();
+    }
+
+    @AfterEach
+    void removeSeededUser() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void fiveYearHistoryRollsUpPerDayWeekAndMonth() throws Exception {
+        String url = "/api/workouts/user/" + user.getId() + "/stats?from=" + FIRST_DAY + "&to=" + LAST_DAY;
+
+        mockMvc.perform(get(url + "&bucket=month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(60))
+                .andExpect(jsonPath("$[0].periodStart").value("2020-01-01"))
+                .andExpect(jsonPath("$[0].workoutCount").value(31))
+                .andExpect(jsonPath("$[0].totalDuration").value(31 * 45))
+                .andExpect(jsonPath("$[0].totalCaloriesBurned").value(31 * 300))
+                .andExpect(jsonPath("$[1].workoutCount").value(29));
+        mockMvc.perform(get(url + "&bucket=day"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(workoutCount))
+                .andExpect(jsonPath("$[0].countsByType.length()").value(1));
+        // 2020-01-01 is a Wednesday: the first week bucket starts the Monday before
+        mockMvc.perform(get(url + "&bucket=week"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].periodStart").value("2019-12-30"))
+                .andExpect(jsonPath("$[0].workoutCount").value(5))
+                .andExpect(jsonPath("$[1].countsByType.cardio").isNumber());
+
+        for (String bucket : new String[] {"day", "week", "month"}) {
+            log.info("stats over {} workouts, bucket={}: {} ms/request", workoutCount, bucket,
+                    String.format("%.2f", millisPerRequest(get(url + "&bucket=" + bucket))));
+        }
+    }
+
+    @Test
+    void invalidRangesAreRejected() throws Exception {
+        String url = "/api/workouts/user/" + user.getId() + "/stats";
+        mockMvc.perform(get(url + "?from=2024-02-01&to=2024-01-01")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url + "?from=2024-01-01&to=2024-02-01&bucket=hour")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url + "?from=2000-01-01&to=2024-12-31&bucket=day")).andExpect(status().isBadRequest());
+    }
+
+    private double millisPerRequest(RequestBuilder request) throws Exception {
+        // Warm up plans and caches before timing
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        return (System.nanoTime() - start) / 1e6 / RUNS;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.fitness_tracker_backend.controller;
 
+import com.example.fitness_tracker_backend.dto.UserSessionDTO;
 import com.example.fitness_tracker_backend.model.Goal;
 import com.example.fitness_tracker_backend.model.User;
 import com.example.fitness_tracker_backend.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,6 +34,22 @@ public class UserController {
         return user.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/login")
+    public ResponseEntity<UserSessionDTO> login(@RequestBody JsonNode requestBody) {
+        if (!requestBody.hasNonNull("email") || !requestBody.hasNonNull("password")) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Reads only the credential columns; the password and the workout and goal history never leave the server
+        String password = requestBody.get("password").asText();
+        return userRepository.findCredentialsByEmail(requestBody.get("email").asText())
+                .filter(credentials -> password.equals(credentials.getPassword()))
+                .map(credentials -> new UserSessionDTO(credentials.getId(), credentials.getUsername(),
+                        credentials.getEmail(), credentials.getFirstName(), credentials.getLastName()))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
     @PostMapping
     public User createUser(@RequestBody JsonNode requestBody) {
         // Create user from basic fields
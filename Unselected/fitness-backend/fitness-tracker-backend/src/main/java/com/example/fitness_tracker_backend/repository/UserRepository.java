@@ -10,6 +10,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+    Optional<UserCredentialsView> findCredentialsByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 }
\ No newline at end of file
@@ -24,26 +24,32 @@ export default function App() {
 
   const handleLogin = async (email: string, password: string) => {
     try {
-      // Fetch all users from backend
-      const response = await fetch('http://localhost:8081/api/users');
+      // Resolve the user by email on the server
+      const response = await fetch('http://localhost:8081/api/users/login', {
+        credentials: 'include',
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ email, password })
+      });
+      
+      if (response.status === 401) {
+        throw new Error('Invalid email or password');
+      }
       
       if (!response.ok) {
         throw new Error('Unable to connect to server');
       }
 
-      const users = await response.json();
-      
-      // Find user by email
-      const user = users.find((u: any) => u.email === email);
+      const session = await response.json();
       
-      if (!user) {
-        throw new Error('Invalid email or password');
-      }
+      // Load the full profile for the authenticated user only
+      const profileResponse = await fetch(`http://localhost:8081/api/users/${session.id}`, { credentials: 'include' });
       
-      // Verify password (Note: In production, use proper hashing)
-      if (user.password !== password) {
-        throw new Error('Invalid email or password');
+      if (!profileResponse.ok) {
+        throw new Error('Unable to connect to server');
       }
+
+      const user = await profileResponse.json();
       
       // Login successful - set the authenticated user
       setCurrentUser(user);
@@ -68,7 +74,7 @@ export default function App() {
   const refreshUserData = async () => {
     if (currentUser?.id) {
       try {
-        const response = await fetch(`http://localhost:8081/api/users/${currentUser.id}`);
+        const response = await fetch(`http://localhost:8081/api/users/${currentUser.id}`, { credentials: 'include' });
         if (response.ok) {
           const updatedUser = await response.json();
           setCurrentUser(updatedUser);
@@ -15,7 +15,7 @@ export function ApiTestComponent() {
     
     try {
       console.log('Making API call to:', 'http://localhost:8081/api/users');
-      const response = await fetch('http://localhost:8081/api/users');
+      const response = await fetch('http://localhost:8081/api/users', { credentials: 'include' });
       console.log('Response status:', response.status);
       console.log('Response ok:', response.ok);
       
@@ -26,7 +26,7 @@ export function ApiTestComponent() {
       const userData = await response.json();
       console.log('Response data:', userData);
       
-      setUsers(userData);
+      setUsers(userData.items ?? []);
       setStatus('Users API working! Found ${userData.length} users`);
     } catch (error) {
       console.error('Error fetching users:', error);
@@ -39,7 +39,7 @@ export function ApiTestComponent() {
     setLoading(true);
     try {
       const workoutData = await workoutApi.getAll();
-      setWorkouts(workoutData);
+      setWorkouts(workoutData.items ?? []);
       console.log('Workouts:', workoutData);
     } catch (error) {
       console.error('Error fetching workouts:', error);
@@ -51,7 +51,7 @@ export function ApiTestComponent() {
     setLoading(true);
     try {
       const goalData = await goalApi.getAll();
-      setGoals(goalData);
+      setGoals(goalData.items ?? []);
       console.log('Goals:', goalData);
     } catch (error) {
       console.error('Error fetching goals:', error);
@@ -65,6 +65,7 @@ export function ApiTestComponent() {
     try {
       console.log('Creating hardcoded test user');
       const response = await fetch('http://localhost:8081/api/test/create-test-user', {
+        credentials: 'include',
         method: 'POST',
         headers: { 'Content-Type': 'application/json' }
       });
@@ -100,7 +101,7 @@ export function ApiTestComponent() {
                 console.log('Testing backend connection');
                 setStatus('Testing connection');
                 try {
-                  const response = await fetch('http://localhost:8081/api/test/test-connection');
+                  const response = await fetch('http://localhost:8081/api/test/test-connection', { credentials: 'include' });
                   const result = await response.text();
                   setStatus(`${result}`);
                   console.log('Backend response:', result);
@@ -1,6 +1,8 @@
 import { Card, CardContent, CardHeader, CardTitle } from "./ui/card";
 import { Button } from "./ui/button";
 import { Plus, Target, Activity } from "lucide-react";
+import { useEffect, useState } from "react";
+import { userApi } from "../services/api";
 
 interface DashboardScreenProps {
   onNavigate: (screen: string) => void;
@@ -8,18 +10,29 @@ interface DashboardScreenProps {
 }
 
 export function DashboardScreen({ onNavigate, userData }: DashboardScreenProps) {
-  const recentWorkouts = Array.isArray(userData?.workouts)
-    ? [...userData.workouts].sort((a: any, b: any) => {
-        const dateA = a.startTime ? new Date(a.startTime).getTime() : 0;
-        const dateB = b.startTime ? new Date(b.startTime).getTime() : 0;
-        if (dateA === dateB) {
-          const idA = typeof a.id === 'number' ? a.id : 0;
-          const idB = typeof b.id === 'number' ? b.id : 0;
-          return idB - idA;
-        }
-        return dateB - dateA;
-      })
-    : [];
+  const [dashboard, setDashboard] = useState<any>(null);
+  const [dashboardUnavailable, setDashboardUnavailable] = useState(false);
+
+  useEffect(() => {
+    if (!userData?.id) {
+      return;
+    }
+    setDashboardUnavailable(false);
+    userApi.getDashboard(userData.id)
+      .then(setDashboard)
+      .catch((error) => {
+        // Backends without the dashboard endpoint (the client-server tree) fall back to userData
+        console.error('Failed to load dashboard:', error);
+        setDashboardUnavailable(true);
+      });
+  }, [userData?.id]);
+
+  // Recent workouts and active goals arrive already ordered and bounded by the server
+  const fallback = dashboardUnavailable ? aggregateDashboard(userData) : null;
+  const source = dashboard ?? fallback;
+  const recentWorkouts = Array.isArray(source?.recentWorkouts) ? source.recentWorkouts : [];
+  const activeGoals = Array.isArray(source?.activeGoals) ? source.activeGoals : [];
+  const weeklyTotals = source?.weeklyTotals;
 
   return (
     <div className="min-h-screen bg-white p-4 pb-20">
@@ -30,6 +43,11 @@ export function DashboardScreen({ onNavigate, userData }: DashboardScreenProps)
           <p className="text-gray-600">
             Welcome back, {userData?.firstName || 'User'}
           </p>
+          {weeklyTotals && (
+            <p className="text-gray-600 text-sm">
+              This week: {weeklyTotals.workoutCount} workouts • {weeklyTotals.totalDuration} min • {weeklyTotals.totalCaloriesBurned} cal
+            </p>
+          )}
         </div>
 
         {/* Add Workout Button */}
@@ -53,7 +71,7 @@ export function DashboardScreen({ onNavigate, userData }: DashboardScreenProps)
             <CardContent>
               <div className="space-y-2 max-h-72 overflow-y-auto pr-2">
                 {recentWorkouts.length > 0 ? (
-                  recentWorkouts.slice(0, 3).map((workout: any, index: number) => (
+                  recentWorkouts.map((workout: any, index: number) => (
                     <div key={index} className="border border-gray-300 p-3">
                       <div className="flex justify-between items-start">
                         <div>
@@ -105,8 +123,8 @@ export function DashboardScreen({ onNavigate, userData }: DashboardScreenProps)
             </CardHeader>
             <CardContent>
               <div className="space-y-3">
-                {userData?.goals && userData.goals.length > 0 ? (
-                  userData.goals.slice(0, 3).map((goal: any, index: number) => {
+                {activeGoals.length > 0 ? (
+                  activeGoals.map((goal: any, index: number) => {
                     const currentValue =
                       typeof goal.currentValue === 'number'
                         ? goal.currentValue
@@ -198,3 +216,56 @@ export function DashboardScreen({ onNavigate, userData }: DashboardScreenProps)
     </div>
   );
 }
+
+const DASHBOARD_ITEMS = 3;
+
+const timeOf = (value: any) => (value ? new Date(value).getTime() : 0);
+
+// Same payload as GET /api/users/{id}/dashboard, built from the user's loaded workouts and goals:
+// latest workouts, active goals due soonest, and totals for the week starting Monday
+function aggregateDashboard(userData: any) {
+  const workouts: any[] = Array.isArray(userData?.workouts) ? userData.workouts : [];
+  const goals: any[] = Array.isArray(userData?.goals) ? userData.goals : [];
+
+  const recentWorkouts = [...workouts]
+    .sort((a, b) => {
+      const dateA = timeOf(a.startTime);
+      const dateB = timeOf(b.startTime);
+      if (dateA === dateB) {
+        const idA = typeof a.id === 'number' ? a.id : 0;
+        const idB = typeof b.id === 'number' ? b.id : 0;
+        return idB - idA;
+      }
+      return dateB - dateA;
+    })
+    .slice(0, DASHBOARD_ITEMS);
+
+  const activeGoals = goals
+    .filter((goal) => (goal.status || '').toLowerCase() === 'active')
+    .sort((a, b) => {
+      const dueA = a.targetDate ? timeOf(a.targetDate) : Number.MAX_SAFE_INTEGER;
+      const dueB = b.targetDate ? timeOf(b.targetDate) : Number.MAX_SAFE_INTEGER;
+      return dueA !== dueB ? dueA - dueB : (a.id ?? 0) - (b.id ?? 0);
+    })
+    .slice(0, DASHBOARD_ITEMS);
+
+  const weekStart = new Date();
+  weekStart.setHours(0, 0, 0, 0);
+  weekStart.setDate(weekStart.getDate() - ((weekStart.getDay() + 6) % 7));
+  const weekEnd = new Date(weekStart);
+  weekEnd.setDate(weekEnd.getDate() + 7);
+  const thisWeek = workouts.filter((workout) => {
+    const start = timeOf(workout.startTime);
+    return start >= weekStart.getTime() && start < weekEnd.getTime();
+  });
+
+  return {
+    recentWorkouts,
+    activeGoals,
+    weeklyTotals: {
+      workoutCount: thisWeek.length,
+      totalDuration: thisWeek.reduce((total, workout) => total + (workout.duration || 0), 0),
+      totalCaloriesBurned: thisWeek.reduce((total, workout) => total + (workout.caloriesBurned || 0), 0)
+    }
+  };
+}
@@ -167,6 +167,7 @@ export function GoalSettingScreen({ onNavigate, userData, onGoalAdded }: GoalSet
     try {
       // Update goal status to completed
       const response = await fetch(`http://localhost:8081/api/goals/${goal.id}`, {
+        credentials: 'include',
         method: 'PUT',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify({
@@ -208,6 +209,7 @@ export function GoalSettingScreen({ onNavigate, userData, onGoalAdded }: GoalSet
 
     try {
       const response = await fetch(`http://localhost:8081/api/goals/${editingGoal.id}`, {
+        credentials: 'include',
         method: 'PUT',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify(updatedGoal)
@@ -240,6 +242,7 @@ export function GoalSettingScreen({ onNavigate, userData, onGoalAdded }: GoalSet
 
     try {
       const response = await fetch(`http://localhost:8081/api/goals/${editingGoal.id}`, {
+        credentials: 'include',
         method: 'DELETE'
       });
 
@@ -352,6 +355,7 @@ export function GoalSettingScreen({ onNavigate, userData, onGoalAdded }: GoalSet
       console.log('Creating goal:', newGoal);
 
       const response = await fetch('http://localhost:8081/api/goals', {
+        credentials: 'include',
         method: 'POST',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify(newGoal)
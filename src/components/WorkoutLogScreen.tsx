@@ -198,6 +198,7 @@ const formatNumber = (value: number, digits = 2) => {
   return value.toFixed(digits).replace(/\.?0+$/, '');
 };
 
+  // Fallback for backends that do not evaluate goal progress on save (the client-server tree)
   const updateGoalProgress = async (
     exercise: Exercise,
     progressCache: Record<number, number>,
@@ -255,6 +256,7 @@ const formatNumber = (value: number, digits = 2) => {
           }
 
           const response = await fetch(`http://localhost:8081/api/goals/${goal.id}`, {
+            credentials: 'include',
             method: 'PUT',
             headers: { 'Content-Type': 'application/json' },
             body: JSON.stringify({
@@ -327,6 +329,7 @@ const formatNumber = (value: number, digits = 2) => {
           }
 
           const response = await fetch(`http://localhost:8081/api/goals/${goal.id}`, {
+            credentials: 'include',
             method: 'PUT',
             headers: { 'Content-Type': 'application/json' },
             body: JSON.stringify({
@@ -393,13 +396,24 @@ const formatNumber = (value: number, digits = 2) => {
         type: workoutType,
         duration: exercises.reduce((total, e) => total + (e.duration || 0), 0),
         startTime: new Date().toISOString(),
-        userId: userData.id
+        userId: userData.id,
+        // Structured exercise rows; the backend stores duration in seconds
+        exercises: exercises.map((e) => ({
+          name: e.name,
+          category: e.category,
+          sets: e.category === 'strength' ? e.sets : null,
+          reps: e.category === 'strength' ? e.reps : null,
+          weight: e.category === 'strength' && e.weight > 0 ? e.weight : null,
+          duration: e.category === 'cardio' && e.duration > 0 ? e.duration * 60 : null,
+          description: e.category === 'cardio' && e.distance > 0 ? `${e.distance} mi` : null
+        }))
       };
 
       console.log('Saving workout:', workout);
 
       // Save to backend
       const response = await fetch('http://localhost:8081/api/workouts', {
+        credentials: 'include',
         method: 'POST',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify(workout)
@@ -411,12 +425,20 @@ const formatNumber = (value: number, digits = 2) => {
         const savedWorkout = await response.json();
         console.log('Workout saved:', savedWorkout);
         
-        // Update goal progress for each exercise
-        const goalProgressCache: Record<number, number> = {};
         const progressSummaries: string[] = [];
         const goalUpdates: Record<number, { currentValue: number; status: string }> = {};
-        for (const exercise of exercises) {
-          await updateGoalProgress(exercise, goalProgressCache, progressSummaries, goalUpdates);
+        if (Array.isArray(savedWorkout.goalProgress)) {
+          // Goal progress is evaluated by the backend in the same request
+          for (const progress of savedWorkout.goalProgress) {
+            goalUpdates[progress.goalId] = { currentValue: progress.currentValue, status: progress.status };
+            progressSummaries.push(...(progress.summaries ?? []));
+          }
+        } else {
+          // No goalProgress in the response: update each matching goal from the client
+          const goalProgressCache: Record<number, number> = {};
+          for (const exercise of exercises) {
+            await updateGoalProgress(exercise, goalProgressCache, progressSummaries, goalUpdates);
+          }
         }
         
         setMessage(
@@ -2,61 +2,79 @@ const API_BASE_URL = 'http://localhost:8081/api';
 
 // User API
 export const userApi = {
-  getAll: () => fetch(`${API_BASE_URL}/users`).then(res => res.json()),
-  getById: (id: number) => fetch(`${API_BASE_URL}/users/${id}`).then(res => res.json()),
+  getAll: () => fetch(`${API_BASE_URL}/users`, { credentials: 'include' }).then(res => res.json()),
+  getById: (id: number) => fetch(`${API_BASE_URL}/users/${id}`, { credentials: 'include' }).then(res => res.json()),
+  getDashboard: (id: number) => fetch(`${API_BASE_URL}/users/${id}/dashboard`, { credentials: 'include' }).then(res => {
+    if (!res.ok) {
+      throw new Error(`Dashboard request failed: ${res.status}`);
+    }
+    return res.json();
+  }),
+  login: (email: string, password: string) => fetch(`${API_BASE_URL}/users/login`, {
+    credentials: 'include',
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json' },
+    body: JSON.stringify({ email, password })
+  }),
   create: (user: any) => fetch(`${API_BASE_URL}/users`, {
+    credentials: 'include',
     method: 'POST',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(user)
   }).then(res => res.json()),
   update: (id: number, user: any) => fetch(`${API_BASE_URL}/users/${id}`, {
+    credentials: 'include',
     method: 'PUT',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(user)
   }).then(res => res.json()),
-  delete: (id: number) => fetch(`${API_BASE_URL}/users/${id}`, { method: 'DELETE' })
+  delete: (id: number) => fetch(`${API_BASE_URL}/users/${id}`, { method: 'DELETE', credentials: 'include' })
 };
 
 // Workout API
 export const workoutApi = {
-  getAll: () => fetch(`${API_BASE_URL}/workouts`).then(res => res.json()),
-  getById: (id: number) => fetch(`${API_BASE_URL}/workouts/${id}`).then(res => res.json()),
-  getByUserId: (userId: number) => fetch(`${API_BASE_URL}/workouts/user/${userId}`).then(res => res.json()),
+  getAll: () => fetch(`${API_BASE_URL}/workouts`, { credentials: 'include' }).then(res => res.json()),
+  getById: (id: number) => fetch(`${API_BASE_URL}/workouts/${id}`, { credentials: 'include' }).then(res => res.json()),
+  getByUserId: (userId: number) => fetch(`${API_BASE_URL}/workouts/user/${userId}`, { credentials: 'include' }).then(res => res.json()),
   create: (workout: any) => fetch(`${API_BASE_URL}/workouts`, {
+    credentials: 'include',
     method: 'POST',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(workout)
   }).then(res => res.json()),
   update: (id: number, workout: any) => fetch(`${API_BASE_URL}/workouts/${id}`, {
+    credentials: 'include',
     method: 'PUT',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(workout)
   }).then(res => res.json()),
-  delete: (id: number) => fetch(`${API_BASE_URL}/workouts/${id}`, { method: 'DELETE' })
+  delete: (id: number) => fetch(`${API_BASE_URL}/workouts/${id}`, { method: 'DELETE', credentials: 'include' })
 };
 
 // Goal API
 export const goalApi = {
-  getAll: () => fetch(`${API_BASE_URL}/goals`).then(res => res.json()),
-  getById: (id: number) => fetch(`${API_BASE_URL}/goals/${id}`).then(res => res.json()),
-  getByUserId: (userId: number) => fetch(`${API_BASE_URL}/goals/user/${userId}`).then(res => res.json()),
+  getAll: () => fetch(`${API_BASE_URL}/goals`, { credentials: 'include' }).then(res => res.json()),
+  getById: (id: number) => fetch(`${API_BASE_URL}/goals/${id}`, { credentials: 'include' }).then(res => res.json()),
+  getByUserId: (userId: number) => fetch(`${API_BASE_URL}/goals/user/${userId}`, { credentials: 'include' }).then(res => res.json()),
   create: (goal: any) => fetch(`${API_BASE_URL}/goals`, {
+    credentials: 'include',
     method: 'POST',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(goal)
   }).then(res => res.json()),
   update: (id: number, goal: any) => fetch(`${API_BASE_URL}/goals/${id}`, {
+    credentials: 'include',
     method: 'PUT',
     headers: { 'Content-Type': 'application/json' },
     body: JSON.stringify(goal)
   }).then(res => res.json()),
-  delete: (id: number) => fetch(`${API_BASE_URL}/goals/${id}`, { method: 'DELETE' })
+  delete: (id: number) => fetch(`${API_BASE_URL}/goals/${id}`, { method: 'DELETE', credentials: 'include' })
 };
 
 // Test API connection
 export const testApiConnection = async () => {
   try {
-    const response = await fetch(`${API_BASE_URL}/users`);
+    const response = await fetch(`${API_BASE_URL}/test/test-connection`, { credentials: 'include' });
     return response.ok;
   } catch (error) {
     console.error('API connection failed:', error);